@@ -0,0 +1,57 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.comment.model.Comment;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.user.model.Usuario;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** Entidades em memória com tamanhos de campo parecidos com os de produção. */
+final class BenchmarkData {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        Usuario assignee = new Usuario();
+        assignee.setId(UUID.randomUUID());
+
+        Instant now = Instant.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Task " + i + " - revisar fluxo de cadastro");
+            task.setDescription("Descrição da tarefa " + i + ": validar campos, mensagens de erro e testes de integração.");
+            task.setStatus(STATUSES[i % STATUSES.length]);
+            task.setProject(project);
+            task.setAssignee(i % 3 == 0 ? null : assignee);
+            task.setDueDate(now.plusSeconds(86_400L * (i % 30)));
+            task.setCreatedAt(now.minusSeconds(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<Comment> comments(int count) {
+        Task task = tasks(1).get(0);
+        Usuario author = new Usuario();
+        author.setId(UUID.randomUUID());
+
+        Instant now = Instant.now();
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            comments.add(new Comment(UUID.randomUUID(), "Comentário " + i + " sobre o andamento da tarefa", task, author, now.minusSeconds(i)));
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskflow.taskflow.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada padrão do profile {@code benchmark}. Aceita os mesmos argumentos do
+ * {@code org.openjdk.jmh.Main}, mas sempre liga o profiler de GC (taxa de alocação por
+ * operação) e grava os resultados em {@code target/jmh-result.json} para comparar execuções.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="TaskJsonBenchmark"
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (!commandLine.getResult().hasValue()) {
+            options.result("target/jmh-result.json").resultFormat(ResultFormatType.JSON);
+        }
+        new Runner(options.build()).run();
+    }
+}
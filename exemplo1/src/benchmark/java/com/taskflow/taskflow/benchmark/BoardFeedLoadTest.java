@@ -0,0 +1,145 @@
+package com.taskflow.taskflow.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Abre muitas conexões SSE no feed de um projeto, muda o status de uma tarefa e mede
+ * quanto tempo leva até todos os assinantes receberem o evento. Roda contra uma instância
+ * já no ar; o token precisa ser de um membro do projeto.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Dbenchmark.main=com.taskflow.taskflow.benchmark.BoardFeedLoadTest \
+ *   -Dbenchmark.jvmArgs="-Dbench.token=... -Dbench.projectId=... -Dbench.taskId=... -Dbench.subscribers=5000"
+ * </pre>
+ */
+public class BoardFeedLoadTest {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.baseUrl", "http://localhost:8080");
+        String token = required("bench.token");
+        String projectId = required("bench.projectId");
+        String taskId = required("bench.taskId");
+        int subscribers = Integer.getInteger("bench.subscribers", 1000);
+        int rounds = Integer.getInteger("bench.rounds", 5);
+
+        // Uma thread de leitura por stream no cliente; o servidor é quem não pode ter isso
+        ExecutorService readers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "sse-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        CountDownLatch connected = new CountDownLatch(subscribers);
+        AtomicReference<Round> current = new AtomicReference<>();
+        HttpRequest subscribe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/boards/" + projectId + "/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        long openStart = System.nanoTime();
+        for (int i = 0; i < subscribers; i++) {
+            client.sendAsync(subscribe, HttpResponse.BodyHandlers.ofInputStream())
+                    .thenAccept(response -> readers.execute(() -> read(response.body(), connected, current)))
+                    .exceptionally(error -> {
+                        System.err.println("Subscription failed: " + error.getMessage());
+                        return null;
+                    });
+        }
+        if (!connected.await(2, TimeUnit.MINUTES)) {
+            System.err.printf("Only %d of %d subscribers connected%n", subscribers - connected.getCount(), subscribers);
+        }
+        System.out.printf("%d subscribers connected in %d ms%n", subscribers - connected.getCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openStart));
+
+        List<Long> fanOutMillis = new ArrayList<>();
+        for (int r = 0; r < rounds; r++) {
+            Round round = new Round((int) (subscribers - connected.getCount()));
+            current.set(round);
+            HttpRequest patch = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/tasks/" + taskId + "/status"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + STATUSES[r % STATUSES.length] + "\"}"))
+                    .build();
+
+            round.start = System.nanoTime();
+            HttpResponse<String> response = client.send(patch, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException("Status update failed: " + response.statusCode() + " " + response.body());
+            }
+            boolean complete = round.received.await(30, TimeUnit.SECONDS);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(round.lastArrival.get() - round.start);
+            fanOutMillis.add(elapsed);
+            System.out.printf("round %d: %d/%d delivered, last arrival after %d ms%n", r + 1,
+                    round.expected - round.received.getCount(), round.expected, elapsed);
+            if (!complete) {
+                System.out.println("  (some subscribers did not receive the event within 30s)");
+            }
+        }
+        System.out.println("fan-out ms per round: " + fanOutMillis);
+        readers.shutdownNow();
+    }
+
+    private static void read(InputStream body, CountDownLatch connected, AtomicReference<Round> current) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            boolean counted = false;
+            while ((line = reader.readLine()) != null) {
+                if (!counted && line.startsWith(":")) {
+                    connected.countDown();
+                    counted = true;
+                } else if (line.equals("event:task.status_changed")) {
+                    Round round = current.get();
+                    if (round != null) {
+                        round.lastArrival.accumulateAndGet(System.nanoTime(), Math::max);
+                        round.received.countDown();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Conexão encerrada pelo servidor ou no fim do teste
+        }
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing -D" + property);
+        }
+        return value;
+    }
+
+    private static final class Round {
+        private final int expected;
+        private final CountDownLatch received;
+        private final AtomicLong lastArrival = new AtomicLong();
+        private volatile long start;
+
+        private Round(int expected) {
+            this.expected = expected;
+            this.received = new CountDownLatch(expected);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.model.Comment;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Conversão entidade -> DTO como feita nas listagens ({@code stream().map(fromEntity)}).
+ * {@code CommentResponse.fromEntity} passa pelo builder do Lombok; {@code TaskResponse} usa
+ * o construtor do record direto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<Task> tasks;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+        comments = BenchmarkData.comments(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskResponseFromEntity() {
+        return tasks.stream().map(TaskResponse::fromEntity).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentResponseFromEntity() {
+        return comments.stream().map(CommentResponse::fromEntity).collect(Collectors.toList());
+    }
+}
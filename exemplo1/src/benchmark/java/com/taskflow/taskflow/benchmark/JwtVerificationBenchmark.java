@@ -0,0 +1,86 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.security.JwtService;
+import com.taskflow.taskflow.security.VerifiedToken;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da autenticação JWT no filtro.
+ * {@code legacyFilterPath} reproduz o caminho antigo (três parses e chave recriada a cada parse);
+ * {@code verifyOnce} e {@code verifyCached} usam o {@link JwtService} atual.
+ * {@code generate} mede a emissão do token no login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET = "aSuperSecretKeyForTaskFlowProjectManagementApiThatIsLongEnoughForHS256Algorithm";
+
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private Usuario user;
+    private String token;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new JwtService(SECRET, 3600000L, 0);
+        cachedService = new JwtService(SECRET, 3600000L, 10_000);
+
+        user = new Usuario();
+        user.setId(UUID.randomUUID());
+        user.setEmail("bench@taskflow.com");
+        user.setRole(UserRole.COLLABORATOR);
+        email = user.getEmail();
+        token = uncachedService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        // extractUsername + isTokenValid (extractUsername + extractExpiration)
+        String username = legacyClaims(token).getSubject();
+        boolean sameUser = legacyClaims(token).getSubject().equals(email) && username != null;
+        return sameUser && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean verifyOnce() {
+        VerifiedToken verified = uncachedService.verify(token);
+        return verified.subject().equals(email) && !verified.isExpiredAt(java.time.Instant.now());
+    }
+
+    @Benchmark
+    public boolean verifyCached() {
+        VerifiedToken verified = cachedService.verify(token);
+        return verified.subject().equals(email) && !verified.isExpiredAt(java.time.Instant.now());
+    }
+
+    @Benchmark
+    public String generate() {
+        return uncachedService.generateToken(user);
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
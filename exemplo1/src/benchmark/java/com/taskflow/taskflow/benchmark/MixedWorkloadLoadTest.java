@@ -0,0 +1,226 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.perf.PerfDataset;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga mista contra uma instância no profile {@code perf}: cada cliente virtual faz login
+ * como um usuário do dataset sintético e depois sorteia operações conforme o mix (carregar o
+ * quadro, mudar status, comentar, abrir o dashboard, refazer login). Os ids vêm de
+ * {@link PerfDataset}, então os parâmetros do dataset precisam bater com os do seed.
+ * Imprime vazão e p50/p99/p999 por endpoint.
+ *
+ * <pre>
+ * mvn -Pperf spring-boot:run -Dspring-boot.run.profiles=perf
+ *
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Dbenchmark.main=com.taskflow.taskflow.benchmark.MixedWorkloadLoadTest \
+ *   -Dbenchmark.jvmArgs="-Dbench.clients=500 -Dbench.durationSeconds=120 -Dbench.mix=login=2,board=50,status=20,comment=18,dashboard=10"
+ * </pre>
+ */
+public class MixedWorkloadLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"jwtToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    enum Operation { LOGIN, BOARD, STATUS, COMMENT, DASHBOARD }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.baseUrl", "http://localhost:8080");
+        PerfDataset dataset = new PerfDataset(
+                Integer.getInteger("bench.users", 5000),
+                Integer.getInteger("bench.projects", 500),
+                Integer.getInteger("bench.projectsPerUser", 3),
+                Integer.getInteger("bench.tasksPerProject", 2000),
+                Integer.getInteger("bench.commentsPerTask", 1));
+        int clients = Integer.getInteger("bench.clients", 200);
+        Duration warmup = Duration.ofSeconds(Long.getLong("bench.warmupSeconds", 15));
+        Duration measurement = Duration.ofSeconds(Long.getLong("bench.durationSeconds", 60));
+        Map<Operation, Integer> mix = parseMix(System.getProperty("bench.mix", "login=2,board=50,status=20,comment=18,dashboard=10"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Workload workload = new Workload(client, baseUrl, dataset, mix);
+
+        System.out.printf("Warming up %d clients for %ds...%n", clients, warmup.toSeconds());
+        workload.run(clients, warmup);
+        Map<Operation, Stats> results = workload.run(clients, measurement);
+
+        System.out.printf("%n%-10s %10s %9s %9s %9s %9s %8s%n", "endpoint", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        long total = 0;
+        for (Map.Entry<Operation, Stats> entry : results.entrySet()) {
+            Stats stats = entry.getValue();
+            total += stats.latencies.length;
+            System.out.printf("%-10s %10.1f %9.1f %9.1f %9.1f %9.1f %8d%n", entry.getKey().name().toLowerCase(),
+                    stats.latencies.length / (double) measurement.toSeconds(),
+                    stats.percentile(50), stats.percentile(99), stats.percentile(99.9), stats.percentile(100), stats.errors);
+        }
+        System.out.printf("%-10s %10.1f%n", "total", total / (double) measurement.toSeconds());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    private static final class Workload {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final PerfDataset dataset;
+        private final Operation[] wheel;
+
+        private Workload(HttpClient client, String baseUrl, PerfDataset dataset, Map<Operation, Integer> mix) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.dataset = dataset;
+            this.wheel = mix.entrySet().stream()
+                    .flatMap(e -> java.util.stream.Stream.generate(e::getKey).limit(e.getValue()))
+                    .toArray(Operation[]::new);
+        }
+
+        Map<Operation, Stats> run(int clients, Duration duration) throws InterruptedException {
+            long deadline = System.nanoTime() + duration.toNanos();
+            Map<Operation, Queue<long[]>> samples = new EnumMap<>(Operation.class);
+            Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new ConcurrentLinkedQueue<>());
+                errors.put(operation, new AtomicLong());
+            }
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < clients; i++) {
+                    executor.execute(() -> session(deadline, samples, errors));
+                }
+            }
+
+            Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                long[] latencies = samples.get(operation).stream().flatMapToLong(Arrays::stream).sorted().toArray();
+                if (latencies.length > 0 || errors.get(operation).get() > 0) {
+                    stats.put(operation, new Stats(latencies, errors.get(operation).get()));
+                }
+            }
+            return stats;
+        }
+
+        private void session(long deadline, Map<Operation, Queue<long[]>> samples, Map<Operation, AtomicLong> errors) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int user = random.nextInt(dataset.users());
+            Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new LatencyRecorder());
+            }
+
+            String token = null;
+            while (System.nanoTime() < deadline) {
+                Operation operation = token == null ? Operation.LOGIN : wheel[random.nextInt(wheel.length)];
+                HttpRequest request = request(operation, user, token, random);
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    long elapsed = System.nanoTime() - start;
+                    if (response.statusCode() >= 400) {
+                        errors.get(operation).incrementAndGet();
+                        continue;
+                    }
+                    recorders.get(operation).record(elapsed);
+                    if (operation == Operation.LOGIN) {
+                        Matcher matcher = TOKEN.matcher(response.body());
+                        token = matcher.find() ? matcher.group(1) : null;
+                    }
+                } catch (Exception e) {
+                    errors.get(operation).incrementAndGet();
+                }
+            }
+            recorders.forEach((operation, recorder) -> samples.get(operation).add(recorder.toArray()));
+        }
+
+        private HttpRequest request(Operation operation, int user, String token, ThreadLocalRandom random) {
+            int project = dataset.projectOf(user, random.nextInt(dataset.projectsPerUser()));
+            String taskId = PerfDataset.taskId(project, random.nextInt(dataset.tasksPerProject())).toString();
+            return switch (operation) {
+                case LOGIN -> json(builder("/api/auth/login"),
+                        "{\"email\":\"" + PerfDataset.email(user) + "\",\"password\":\"" + PerfDataset.PASSWORD + "\"}");
+                case BOARD -> authorized(get("/api/tasks/projects/" + PerfDataset.projectId(project) + "/tasks/page?size=50"), token);
+                case STATUS -> authorized(json(builder("/api/tasks/tasks/" + taskId + "/status").method("PATCH",
+                        HttpRequest.BodyPublishers.ofString("{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}"))), token);
+                case COMMENT -> authorized(json(builder("/api/tasks/" + taskId + "/comments").POST(
+                        HttpRequest.BodyPublishers.ofString("{\"content\":\"Load test comment\"}"))), token);
+                case DASHBOARD -> authorized(get("/api/dashboard/summary"), token);
+            };
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return builder(path).GET();
+        }
+
+        private static HttpRequest json(HttpRequest.Builder builder, String body) {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private static HttpRequest.Builder json(HttpRequest.Builder builder) {
+            return builder.header("Content-Type", "application/json");
+        }
+
+        private static HttpRequest authorized(HttpRequest.Builder builder, String token) {
+            return builder.header("Authorization", "Bearer " + token).build();
+        }
+    }
+
+    private static final class LatencyRecorder {
+        private long[] samples = new long[256];
+        private int size;
+
+        void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(samples, size);
+        }
+    }
+
+    private record Stats(long[] latencies, long errors) {
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p / 100.0 * latencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMicros(latencies[Math.max(index, 0)]) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serialização de listas grandes de {@link TaskResponse}, como em
+ * {@code GET /projects/{projectId}/tasks}. O ObjectMapper é montado como o do Spring Boot
+ * (módulos registrados, datas ISO-8601). {@code toBytes} materializa o corpo inteiro, como
+ * acontece no conversor HTTP; {@code toStream} escreve direto numa saída descartável.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+        tasks = BenchmarkData.tasks(size).stream().map(TaskResponse::fromEntity).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public void toStream() throws IOException {
+        listWriter.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.task.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse do filtro {@code ?status=} das listagens de tarefas. {@code valueOfUpperCase} é a
+ * expressão de {@code TaskService.parseStatus}; {@code equalsIgnoreCase} serve de referência
+ * sem a String intermediária.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatusParsingBenchmark {
+
+    @Param({"in_progress", "DONE"})
+    private String status;
+
+    @Benchmark
+    public TaskStatus valueOfUpperCase() {
+        return TaskStatus.valueOf(status.toUpperCase());
+    }
+
+    @Benchmark
+    public TaskStatus equalsIgnoreCase() {
+        for (TaskStatus candidate : TaskStatus.values()) {
+            if (candidate.name().equalsIgnoreCase(status)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status value: " + status);
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskflow.taskflow.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara a mesma API rodando com o pool de threads de plataforma do Tomcat e com virtual
+ * threads. Sobe-se duas instâncias contra o mesmo MySQL, uma com
+ * {@code spring.threads.virtual.enabled=false} e outra com {@code true}, e este programa
+ * aplica carga em loop fechado (cada cliente espera a resposta antes de mandar a próxima)
+ * em cada nível de concorrência, imprimindo vazão e percentis de latência lado a lado.
+ *
+ * <pre>
+ * java -jar target/taskflow.jar --server.port=8080
+ * java -jar target/taskflow.jar --server.port=8081 --spring.threads.virtual.enabled=true
+ *
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Dbenchmark.main=com.taskflow.taskflow.benchmark.ThreadModeLoadTest \
+ *   -Dbenchmark.jvmArgs="-Dbench.token=... -Dbench.projectId=... -Dbench.concurrency=1000,2500,5000,10000"
+ * </pre>
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> targets = parseTargets(System.getProperty("bench.targets",
+                "platform=http://localhost:8080,virtual=http://localhost:8081"));
+        String token = required("bench.token");
+        String projectId = required("bench.projectId");
+        String path = System.getProperty("bench.path", "/api/tasks/projects/" + projectId + "/tasks/page?size=20");
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("bench.concurrency", "1000,2500,5000,10000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration warmup = Duration.ofSeconds(Long.getLong("bench.warmupSeconds", 10));
+        Duration measurement = Duration.ofSeconds(Long.getLong("bench.durationSeconds", 30));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        System.out.printf("%-10s %8s %10s %9s %9s %9s %9s %8s%n",
+                "mode", "clients", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        for (int concurrency : concurrencyLevels) {
+            for (Map.Entry<String, String> target : targets.entrySet()) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(target.getValue() + path))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+                run(client, request, concurrency, warmup);
+                Result result = run(client, request, concurrency, measurement);
+                System.out.printf("%-10s %8d %10.0f %9.1f %9.1f %9.1f %9.1f %8d%n",
+                        target.getKey(), concurrency, result.throughput(),
+                        result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(100),
+                        result.errors());
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        Queue<long[]> perClient = new ConcurrentLinkedQueue<>();
+
+        // Um cliente por virtual thread: o gerador de carga não pode ser o gargalo
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            recorder.record(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    perClient.add(recorder.toArray());
+                });
+            }
+        }
+
+        long[] latencies = perClient.stream()
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        return new Result(latencies, errors.get(), duration);
+    }
+
+    private static Map<String, String> parseTargets(String value) {
+        Map<String, String> targets = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            targets.put(parts[0], parts[1]);
+        }
+        return targets;
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing -D" + property);
+        }
+        return value;
+    }
+
+    private static final class LatencyRecorder {
+        private long[] samples = new long[256];
+        private int size;
+
+        void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(samples, size);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errors, Duration duration) {
+
+        double throughput() {
+            return sortedLatencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sortedLatencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMicros(sortedLatencies[Math.max(index, 0)]) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.UserStatus;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserPrincipal#getAuthorities()} é chamado pelo Spring Security em toda checagem de
+ * papel ({@code hasRole}, {@code @PreAuthorize}), várias vezes por requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPrincipalBenchmark {
+
+    private UserPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        Usuario user = new Usuario();
+        user.setId(UUID.randomUUID());
+        user.setEmail("bench@taskflow.com");
+        user.setRole(UserRole.MANAGER);
+        user.setStatus(UserStatus.ACTIVE);
+        principal = new UserPrincipal(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean hasManagerRole() {
+        for (GrantedAuthority authority : principal.getAuthorities()) {
+            if ("ROLE_MANAGER".equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
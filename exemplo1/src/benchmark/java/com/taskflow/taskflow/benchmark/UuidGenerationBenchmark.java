@@ -0,0 +1,31 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.core.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de geração de ids: {@link UUID#randomUUID()} (v4, SecureRandom) contra {@link UuidV7#next()}.
+ * Roda com vários threads para medir a contenção no CAS do contador do v7.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class UuidGenerationBenchmark {
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return UuidV7.next();
+    }
+}
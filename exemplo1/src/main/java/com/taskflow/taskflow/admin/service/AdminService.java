@@ -1,6 +1,7 @@
 package com.taskflow.taskflow.admin.service;
 
 import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
+import com.taskflow.taskflow.security.UserSnapshotCache;
 import com.taskflow.taskflow.user.model.Usuario;
 import com.taskflow.taskflow.user.model.UserRole;
 import com.taskflow.taskflow.user.model.UserStatus;
@@ -17,6 +18,7 @@ import java.util.UUID;
 public class AdminService {
 
     private final UsuarioRepository usuarioRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Transactional
     public void updateUserStatus(UUID userId, String status) {
@@ -24,6 +26,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setStatus(UserStatus.valueOf(status));
         usuarioRepository.save(user);
+        userSnapshotCache.invalidate(userId);
     }
 
     @Transactional
@@ -32,5 +35,6 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setRole(UserRole.valueOf(role));
         usuarioRepository.save(user);
+        userSnapshotCache.invalidate(userId);
     }
 }
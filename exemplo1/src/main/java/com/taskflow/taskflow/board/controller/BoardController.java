@@ -0,0 +1,28 @@
+package com.taskflow.taskflow.board.controller;
+
+import com.taskflow.taskflow.board.service.BoardFeedService;
+import com.taskflow.taskflow.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/boards")
+@RequiredArgsConstructor
+public class BoardController {
+
+    @Autowired
+    BoardFeedService boardFeedService;
+
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoardEvents(
+            @PathVariable UUID projectId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return boardFeedService.subscribe(projectId, currentUser);
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.board.dto;
+
+import com.taskflow.taskflow.core.event.ProjectEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resumo enviado ao quadro no lugar dos eventos de uma transação grande (ex.: operações em massa);
+ * {@code changes} agrupa os ids alterados por tipo de evento.
+ */
+public record BoardBulkEvent(
+        UUID projectId,
+        Map<String, List<UUID>> changes
+) {
+
+    public static final String EVENT_TYPE = "project.bulk_changed";
+
+    public static BoardBulkEvent of(UUID projectId, List<ProjectEvent> events) {
+        Map<String, List<UUID>> changes = new LinkedHashMap<>();
+        for (ProjectEvent event : events) {
+            changes.computeIfAbsent(event.eventType(), type -> new ArrayList<>()).add(event.entityId());
+        }
+        return new BoardBulkEvent(projectId, changes);
+    }
+}
@@ -0,0 +1,288 @@
+package com.taskflow.taskflow.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.board.dto.BoardBulkEvent;
+import com.taskflow.taskflow.core.event.ProjectEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out dos eventos de projeto para as conexões SSE abertas nos quadros.
+ * Cada evento é serializado uma única vez e enfileirado para os assinantes do projeto;
+ * um pool pequeno faz as escritas, e clientes que não acompanham são desconectados
+ * (o EventSource do navegador reconecta e o front recarrega a lista).
+ * Os eventos são enviados após o commit, agrupados por transação: acima de {@code coalesce-threshold}
+ * eventos no mesmo projeto (operações em massa) vai um único {@link BoardBulkEvent}, para que a
+ * transação não estoure a fila dos assinantes e derrube todos os quadros abertos.
+ * Uma escrita que passa do prazo (cliente que parou de ler sem fechar o socket) só é liberada pelo
+ * timeout de escrita do Tomcat; até lá o assinante sai do quadro e o pool ganha uma thread no
+ * lugar da que está presa, para que o fan-out dos demais quadros não pare.
+ */
+@Slf4j
+@Component
+public class BoardFeed {
+
+    private final Map<UUID, Set<BoardSubscriber>> subscribers = new ConcurrentHashMap<>();
+    // Assinantes com um dreno em andamento, verificados pelo checkStalledSends
+    private final Set<BoardSubscriber> sending = ConcurrentHashMap.newKeySet();
+    // Assinantes travados que receberam uma thread substituta no pool
+    private final Set<BoardSubscriber> replaced = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final long timeoutMillis;
+    private final int maxQueuedEvents;
+    private final int coalesceThreshold;
+    private final long sendTimeoutNanos;
+    private final int maxReplacementThreads;
+    private int replacementThreads;
+
+    private final Counter eventsSent;
+    private final Counter subscribersDropped;
+    private final Counter sendsStalled;
+
+    @Autowired
+    public BoardFeed(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.board-feed.sender-threads:4}") int senderThreads,
+            @Value("${taskflow.board-feed.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${taskflow.board-feed.max-queued-events:256}") int maxQueuedEvents,
+            @Value("${taskflow.board-feed.coalesce-threshold:32}") int coalesceThreshold,
+            @Value("${taskflow.board-feed.send-timeout-ms:10000}") long sendTimeoutMillis,
+            @Value("${taskflow.board-feed.max-replacement-threads:64}") int maxReplacementThreads) {
+        this(objectMapper, meterRegistry, new ThreadPoolExecutor(senderThreads, senderThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-feed-sender");
+            thread.setDaemon(true);
+            return thread;
+        }), timeoutMillis, maxQueuedEvents, coalesceThreshold, sendTimeoutMillis, maxReplacementThreads);
+    }
+
+    BoardFeed(ObjectMapper objectMapper, MeterRegistry meterRegistry, Executor sendExecutor,
+              long timeoutMillis, int maxQueuedEvents, int coalesceThreshold, long sendTimeoutMillis,
+              int maxReplacementThreads) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.coalesceThreshold = coalesceThreshold;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.maxReplacementThreads = maxReplacementThreads;
+        this.eventsSent = meterRegistry.counter("taskflow.board.events.sent");
+        this.subscribersDropped = meterRegistry.counter("taskflow.board.subscribers.dropped");
+        this.sendsStalled = meterRegistry.counter("taskflow.board.sends.stalled");
+        meterRegistry.gauge("taskflow.board.subscribers", subscriberCount);
+    }
+
+    public SseEmitter subscribe(UUID projectId) {
+        return register(projectId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter register(UUID projectId, SseEmitter emitter) {
+        BoardSubscriber subscriber = new BoardSubscriber(projectId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        // Primeiro envio confirma a conexão ao cliente e libera os cabeçalhos
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @EventListener
+    public void onProjectEvent(ProjectEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event.projectId(), List.of(event));
+            return;
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.byProject.computeIfAbsent(event.projectId(), id -> new ArrayList<>()).add(event);
+    }
+
+    // Comentário periódico mantém proxies abertos e detecta conexões mortas na escrita
+    @Scheduled(fixedRateString = "${taskflow.board-feed.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (Set<BoardSubscriber> projectSubscribers : subscribers.values()) {
+            for (BoardSubscriber subscriber : projectSubscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${taskflow.board-feed.stall-check-interval-ms:1000}")
+    public void checkStalledSends() {
+        long now = System.nanoTime();
+        for (BoardSubscriber subscriber : sending) {
+            if (subscriber.sendExceeded(now, sendTimeoutNanos) && subscriber.markStalled()) {
+                log.debug("Board subscriber on project {} stopped reading, disconnecting", subscriber.projectId());
+                sendsStalled.increment();
+                subscribersDropped.increment();
+                // Sem chamar o emitter: send() segura o monitor dele enquanto a escrita está presa
+                remove(subscriber);
+                replaceStalledSender(subscriber);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        }));
+        subscribers.clear();
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void publish(UUID projectId, List<ProjectEvent> events) {
+        Set<BoardSubscriber> projectSubscribers = subscribers.get(projectId);
+        if (projectSubscribers == null || projectSubscribers.isEmpty()) {
+            return;
+        }
+        if (events.size() > coalesceThreshold) {
+            send(projectSubscribers, BoardBulkEvent.EVENT_TYPE, BoardBulkEvent.of(projectId, events));
+            return;
+        }
+        for (ProjectEvent event : events) {
+            send(projectSubscribers, event.eventType(), event);
+        }
+    }
+
+    private void send(Set<BoardSubscriber> projectSubscribers, String eventType, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize board event {}", eventType, e);
+            return;
+        }
+        for (BoardSubscriber subscriber : projectSubscribers) {
+            enqueue(subscriber, SseEmitter.event().name(eventType).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void enqueue(BoardSubscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.offer(event, maxQueuedEvents)) {
+            if (!subscriber.isClosed()) {
+                log.debug("Dropping slow board subscriber on project {}", subscriber.projectId());
+                subscribersDropped.increment();
+                remove(subscriber);
+                subscriber.emitter().complete();
+            }
+            return;
+        }
+        if (subscriber.tryStartDrain()) {
+            sendExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(BoardSubscriber subscriber) {
+        sending.add(subscriber);
+        try {
+            eventsSent.increment(subscriber.drain());
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectou: o onError/onCompletion do emitter também remove
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return;
+        } finally {
+            sending.remove(subscriber);
+            releaseReplacement(subscriber);
+        }
+        if (subscriber.isStalled()) {
+            // A escrita presa terminou depois do prazo: encerra a conexão agora que o emitter está livre
+            subscriber.emitter().complete();
+        }
+    }
+
+    private synchronized void replaceStalledSender(BoardSubscriber subscriber) {
+        if (!(sendExecutor instanceof ThreadPoolExecutor pool) || replacementThreads >= maxReplacementThreads
+                || !sending.contains(subscriber)) {
+            return;
+        }
+        replacementThreads++;
+        replaced.add(subscriber);
+        pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+        pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+    }
+
+    private synchronized void releaseReplacement(BoardSubscriber subscriber) {
+        if (!replaced.remove(subscriber)) {
+            return;
+        }
+        replacementThreads--;
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) sendExecutor;
+        pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+        pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+    }
+
+    private void remove(BoardSubscriber subscriber) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+        subscriber.close();
+        Set<BoardSubscriber> projectSubscribers = subscribers.get(subscriber.projectId());
+        if (projectSubscribers != null && projectSubscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            if (projectSubscribers.isEmpty()) {
+                subscribers.remove(subscriber.projectId(), projectSubscribers);
+            }
+        }
+    }
+
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final Map<UUID, List<ProjectEvent>> byProject = new LinkedHashMap<>();
+
+        @Override
+        public void afterCommit() {
+            byProject.forEach(BoardFeed.this::publish);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BoardFeed.this);
+        }
+    }
+}
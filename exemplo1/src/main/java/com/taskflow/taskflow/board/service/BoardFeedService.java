@@ -0,0 +1,27 @@
+package com.taskflow.taskflow.board.service;
+
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BoardFeedService {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final BoardFeed boardFeed;
+
+    public SseEmitter subscribe(UUID projectId, UserPrincipal currentUser) {
+        // A permissão é verificada uma única vez, na abertura da conexão
+        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+        return boardFeed.subscribe(projectId);
+    }
+}
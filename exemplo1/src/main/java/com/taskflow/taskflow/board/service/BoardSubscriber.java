@@ -0,0 +1,119 @@
+package com.taskflow.taskflow.board.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uma conexão SSE aberta. Os eventos entram em uma fila limitada e são escritos por uma thread
+ * do pool de envio só enquanto houver algo na fila: conexões ociosas não ocupam threads.
+ * O início da escrita em andamento fica registrado para que o {@link BoardFeed} detecte clientes
+ * que pararam de ler sem fechar a conexão.
+ */
+final class BoardSubscriber {
+
+    private final UUID projectId;
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private static final long NOT_SENDING = Long.MIN_VALUE;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean stalled = new AtomicBoolean();
+    private volatile long sendStartedNanos = NOT_SENDING;
+    private volatile boolean closed;
+
+    BoardSubscriber(UUID projectId, SseEmitter emitter) {
+        this.projectId = projectId;
+        this.emitter = emitter;
+    }
+
+    UUID projectId() {
+        return projectId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Enfileira o evento; devolve false se a fila estiver cheia (cliente lento demais).
+     */
+    boolean offer(SseEmitter.SseEventBuilder event, int maxQueued) {
+        if (closed) {
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queue.add(event);
+        return true;
+    }
+
+    /**
+     * Marca o assinante como agendado para envio; só um dreno roda por vez para manter a ordem.
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * Escreve tudo o que estiver na fila. Devolve o número de eventos enviados.
+     */
+    int drain() throws IOException {
+        int sent = 0;
+        while (true) {
+            SseEmitter.SseEventBuilder event = queue.poll();
+            if (event == null) {
+                draining.set(false);
+                // Um evento pode ter chegado entre o poll vazio e a liberação da flag
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return sent;
+                }
+                continue;
+            }
+            queued.decrementAndGet();
+            if (!closed) {
+                sendStartedNanos = System.nanoTime();
+                try {
+                    emitter.send(event);
+                } finally {
+                    sendStartedNanos = NOT_SENDING;
+                }
+                sent++;
+            }
+        }
+    }
+
+    boolean sendExceeded(long nowNanos, long deadlineNanos) {
+        long started = sendStartedNanos;
+        return started != NOT_SENDING && nowNanos - started > deadlineNanos;
+    }
+
+    /**
+     * Marca a escrita atual como travada; devolve true só na primeira vez.
+     */
+    boolean markStalled() {
+        return stalled.compareAndSet(false, true);
+    }
+
+    boolean isStalled() {
+        return stalled.get();
+    }
+
+    void close() {
+        closed = true;
+        queue.clear();
+        queued.set(0);
+    }
+}
@@ -3,15 +3,18 @@ package com.taskflow.taskflow.comment.controller;
 import com.taskflow.taskflow.comment.dto.CommentRequest;
 import com.taskflow.taskflow.comment.dto.CommentResponse;
 import com.taskflow.taskflow.comment.service.CommentService;
+import com.taskflow.taskflow.core.pagination.CursorPage;
 import com.taskflow.taskflow.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +24,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CommentController {
 
+    // Sem no-store (padrão do Spring Security): o navegador guarda a lista e revalida com If-None-Match
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @Autowired
     CommentService commentService;
 
@@ -45,9 +51,31 @@ public class CommentController {
     @GetMapping
     public ResponseEntity<List<CommentResponse>> getCommentsByTaskId(
             @PathVariable UUID taskId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        // If-None-Match com a versão atual do projeto responde 304 sem consultar os comentários
+        String eTag = commentService.getCommentsETag(taskId, currentUser, "list");
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(LIST_CACHE_CONTROL).build();
+        }
         List<CommentResponse> comments = commentService.getCommentsByTaskId(taskId, currentUser);
-        return ResponseEntity.ok(comments);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL).body(comments);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<CommentResponse>> getCommentsPageByTaskId(
+            @PathVariable UUID taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean newestFirst,
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String eTag = commentService.getCommentsETag(taskId, currentUser, "page", cursor, size, newestFirst);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(LIST_CACHE_CONTROL).build();
+        }
+        CursorPage<CommentResponse> page = commentService.getCommentsPageByTaskId(taskId, cursor, size, newestFirst, currentUser);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL).body(page);
     }
 
     @PutMapping("/{commentId}")
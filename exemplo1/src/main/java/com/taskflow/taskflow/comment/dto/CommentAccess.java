@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.comment.dto;
+
+import com.taskflow.taskflow.comment.model.Comment;
+
+import java.util.UUID;
+
+/**
+ * Comentário carregado junto com o id do projeto da tarefa e o resultado da verificação
+ * de membro do usuário, resolvidos na mesma consulta.
+ */
+public record CommentAccess(
+        Comment comment,
+        UUID projectId,
+        boolean member
+) {
+}
@@ -0,0 +1,27 @@
+package com.taskflow.taskflow.comment.event;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.core.event.ProjectEvent;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Mudança em um comentário; {@code comment} é o estado após a alteração (ou o último estado, em DELETED).
+ */
+public record CommentEvent(
+        CommentEventType type,
+        UUID projectId,
+        CommentResponse comment
+) implements ProjectEvent {
+
+    @Override
+    public String eventType() {
+        return "comment." + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public UUID entityId() {
+        return comment.id();
+    }
+}
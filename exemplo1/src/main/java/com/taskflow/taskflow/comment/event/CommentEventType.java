@@ -0,0 +1,7 @@
+package com.taskflow.taskflow.comment.event;
+
+public enum CommentEventType {
+    ADDED,
+    UPDATED,
+    DELETED
+}
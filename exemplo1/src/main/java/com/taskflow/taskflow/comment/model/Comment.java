@@ -1,5 +1,6 @@
 package com.taskflow.taskflow.comment.model;
 
+import com.taskflow.taskflow.core.id.GeneratedUuidV7;
 import com.taskflow.taskflow.task.model.Task;
 import com.taskflow.taskflow.user.model.Usuario;
 import jakarta.persistence.*;
@@ -17,11 +18,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_task_created", columnList = "task_id, created_at, id")
+})
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
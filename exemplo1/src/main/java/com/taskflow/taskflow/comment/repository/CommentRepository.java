@@ -1,13 +1,58 @@
 package com.taskflow.taskflow.comment.repository;
 
+import com.taskflow.taskflow.comment.dto.CommentAccess;
+import com.taskflow.taskflow.comment.dto.CommentResponse;
 import com.taskflow.taskflow.comment.model.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, UUID> {
+public interface CommentRepository extends JpaRepository<Comment, UUID>, CommentStreamRepository {
     List<Comment> findByTaskId(UUID taskId);
+
+    // Comentário, projeto da tarefa (via join) e verificação de membro em um único SELECT
+    @Query("SELECT new com.taskflow.taskflow.comment.dto.CommentAccess(c, t.project.id, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM ProjectMember pm " +
+            "WHERE pm.project.id = t.project.id AND pm.user.id = :userId) THEN true ELSE false END) " +
+            "FROM Comment c JOIN c.task t WHERE c.id = :commentId")
+    Optional<CommentAccess> findWithAccessById(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+    // Paginação por keyset em (created_at, id), coberta por idx_comments_task_created.
+    // A projeção no DTO lê só as FKs: nenhum Comment, Task ou Usuario é hidratado.
+    String COMMENT_RESPONSE = "SELECT new com.taskflow.taskflow.comment.dto.CommentResponse(" +
+            "c.id, c.content, c.task.id, c.author.id, c.createdAt) FROM Comment c WHERE c.task.id = :taskId ";
+
+    @Query(COMMENT_RESPONSE + "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstCommentsPage(@Param("taskId") UUID taskId, Limit limit);
+
+    @Query(COMMENT_RESPONSE +
+            "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findCommentsPageAfter(
+            @Param("taskId") UUID taskId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    @Query(COMMENT_RESPONSE + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findFirstCommentsPageNewestFirst(@Param("taskId") UUID taskId, Limit limit);
+
+    @Query(COMMENT_RESPONSE +
+            "AND (c.createdAt < :beforeCreatedAt OR (c.createdAt = :beforeCreatedAt AND c.id < :beforeId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findCommentsPageBefore(
+            @Param("taskId") UUID taskId,
+            @Param("beforeCreatedAt") Instant beforeCreatedAt,
+            @Param("beforeId") UUID beforeId,
+            Limit limit
+    );
 }
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.comment.repository;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+
+import java.util.stream.Stream;
+
+// Consultas lidas em streaming; o fetch size depende do banco (ver StreamingQueries)
+public interface CommentStreamRepository {
+
+    Stream<CommentResponse> streamAllComments();
+}
@@ -0,0 +1,21 @@
+package com.taskflow.taskflow.comment.repository;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.core.sql.StreamingQueries;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class CommentStreamRepositoryImpl implements CommentStreamRepository {
+
+    private final EntityManager entityManager;
+    private final StreamingQueries streamingQueries;
+
+    @Override
+    public Stream<CommentResponse> streamAllComments() {
+        return streamingQueries.stream(entityManager.createQuery("SELECT new com.taskflow.taskflow.comment.dto.CommentResponse(" +
+                "c.id, c.content, c.task.id, c.author.id, c.createdAt) FROM Comment c", CommentResponse.class));
+    }
+}
@@ -1,31 +1,46 @@
 package com.taskflow.taskflow.comment.service;
 
 import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.core.pagination.KeysetCursor;
+import com.taskflow.taskflow.comment.dto.CommentAccess;
 import com.taskflow.taskflow.comment.dto.CommentRequest;
 import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.event.CommentEvent;
+import com.taskflow.taskflow.comment.event.CommentEventType;
 import com.taskflow.taskflow.comment.model.Comment;
 import com.taskflow.taskflow.comment.repository.CommentRepository;
-import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.project.service.ProjectVersionService;
 import com.taskflow.taskflow.security.UserPrincipal;
 import com.taskflow.taskflow.task.repository.TaskRepository;
 import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskflow.service", histogram = true)
 public class CommentService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UsuarioRepository usuarioRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ProjectVersionService projectVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(UUID taskId, CommentRequest request, UserPrincipal currentUser) {
@@ -33,7 +48,7 @@ public class CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         UUID projectId = task.getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
         if (!isMember) {
             throw new AccessDeniedException("User is not a member of the project");
         }
@@ -48,34 +63,51 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(newComment);
 
-        return CommentResponse.fromEntity(savedComment);
+        CommentResponse response = CommentResponse.fromEntity(savedComment);
+        eventPublisher.publishEvent(new CommentEvent(CommentEventType.ADDED, projectId, response));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public CommentResponse getCommentById(UUID taskId, UUID commentId, UserPrincipal currentUser) {
-        var comment = commentRepository.findById(commentId)
+        // Comentário, projeto da tarefa e permissão resolvidos em um único SELECT
+        CommentAccess access = commentRepository.findWithAccessById(commentId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+        Comment comment = access.comment();
 
         if (!comment.getTask().getId().equals(taskId)) {
             throw new ResourceNotFoundException("Comment not found for the given task");
         }
-        
-        UUID projectId = comment.getTask().getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
-        if (!isMember) {
+
+        if (!access.member()) {
             throw new AccessDeniedException("User is not a member of the project");
         }
 
         return CommentResponse.fromEntity(comment);
     }
 
+    // ETag das listagens de comentários: versão do projeto da tarefa, sem a consulta da lista
+    public String getCommentsETag(UUID taskId, UserPrincipal currentUser, Object... filters) {
+        UUID projectId = taskRepository.findProjectIdById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+
+        Object[] listFilters = Arrays.copyOf(filters, filters.length + 1);
+        listFilters[filters.length] = taskId;
+        return projectVersionService.listETag(projectId, listFilters);
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByTaskId(UUID taskId, UserPrincipal currentUser) {
         var task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         UUID projectId = task.getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
         if (!isMember) {
             throw new AccessDeniedException("User is not a member of the project");
         }
@@ -86,10 +118,43 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getCommentsPageByTaskId(UUID taskId, String cursor, int size,
+                                                               boolean newestFirst, UserPrincipal currentUser) {
+        // 1. Resolver só o projeto da tarefa, sem carregar a entidade
+        UUID projectId = taskRepository.findProjectIdById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+
+        int pageSize = CursorPage.clampSize(size, MAX_PAGE_SIZE);
+
+        // 2. Buscar uma linha a mais para saber se existe próxima página
+        Limit limit = Limit.of(pageSize + 1);
+        List<CommentResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = newestFirst
+                    ? commentRepository.findFirstCommentsPageNewestFirst(taskId, limit)
+                    : commentRepository.findFirstCommentsPage(taskId, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = newestFirst
+                    ? commentRepository.findCommentsPageBefore(taskId, position.instant(), position.id(), limit)
+                    : commentRepository.findCommentsPageAfter(taskId, position.instant(), position.id(), limit);
+        }
+
+        return CursorPage.of(rows, pageSize, comment -> new KeysetCursor(comment.createdAt(), comment.id()));
+    }
+
     @Transactional
     public CommentResponse updateComment(UUID taskId, UUID commentId, CommentRequest request, UserPrincipal currentUser) {
-        var comment = commentRepository.findById(commentId)
+        // O id do projeto vem no mesmo SELECT, para publicar o evento sem carregar a tarefa
+        CommentAccess access = commentRepository.findWithAccessById(commentId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+        Comment comment = access.comment();
 
         if (!comment.getTask().getId().equals(taskId)) {
             throw new ResourceNotFoundException("Comment not found for the given task");
@@ -102,13 +167,17 @@ public class CommentService {
         comment.setContent(request.content());
         Comment updatedComment = commentRepository.save(comment);
 
-        return CommentResponse.fromEntity(updatedComment);
+        CommentResponse response = CommentResponse.fromEntity(updatedComment);
+        eventPublisher.publishEvent(new CommentEvent(CommentEventType.UPDATED, access.projectId(), response));
+        return response;
     }
 
     @Transactional
     public void deleteComment(UUID taskId, UUID commentId, UserPrincipal currentUser) {
-        var comment = commentRepository.findById(commentId)
+        // O id do projeto vem no mesmo SELECT, para publicar o evento sem carregar a tarefa
+        CommentAccess access = commentRepository.findWithAccessById(commentId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+        Comment comment = access.comment();
 
         if (!comment.getTask().getId().equals(taskId)) {
             throw new ResourceNotFoundException("Comment not found for the given task");
@@ -119,5 +188,7 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentEvent(CommentEventType.DELETED, access.projectId(),
+                CommentResponse.fromEntity(comment)));
     }
 }
@@ -0,0 +1,25 @@
+package com.taskflow.taskflow.config;
+
+import com.taskflow.taskflow.search.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "taskflow.search.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    private final TaskSearchService taskSearchService;
+
+    @Override
+    public void run(String... args) {
+        // O índice de busca vive em memória: é reconstruído a partir do banco a cada subida
+        long start = System.currentTimeMillis();
+        int indexed = taskSearchService.rebuildIndex();
+        log.info("Search index rebuilt with {} tasks in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+}
@@ -1,8 +1,11 @@
 package com.taskflow.taskflow.config;
 
+import com.taskflow.taskflow.security.BoundedPasswordEncoder;
 import com.taskflow.taskflow.security.JwtAuthenticationFilter;
 import com.taskflow.taskflow.security.UserPrincipal;
 import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +30,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final UsuarioRepository usuarioRepository;
+    private final int maxConcurrentHashing;
     
     private static final String[] PUBLIC_URLS = {
         "/api/auth/**",
@@ -35,8 +39,11 @@ public class SecurityConfig {
         "/swagger-ui.html"
     };
 
-    public SecurityConfig(UsuarioRepository usuarioRepository) {
+    public SecurityConfig(
+            UsuarioRepository usuarioRepository,
+            @Value("${taskflow.security.password-hashing.max-concurrent:0}") int maxConcurrentHashing) {
         this.usuarioRepository = usuarioRepository;
+        this.maxConcurrentHashing = maxConcurrentHashing;
     }
 
     @Bean
@@ -48,6 +55,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_URLS).permitAll() 
+                        // Respostas em streaming terminam num dispatch ASYNC já autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         
@@ -75,7 +84,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), maxConcurrentHashing);
     }
 
     @Bean
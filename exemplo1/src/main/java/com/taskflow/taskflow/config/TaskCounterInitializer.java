@@ -0,0 +1,30 @@
+package com.taskflow.taskflow.config;
+
+import com.taskflow.taskflow.dashboard.service.TaskCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCounterInitializer implements CommandLineRunner {
+
+    private final TaskCounterService taskCounterService;
+
+    @Override
+    public void run(String... args) {
+        // Popula os contadores do dashboard a partir das tarefas existentes na primeira subida
+        try {
+            int seeded = taskCounterService.rebuildAllIfEmpty();
+            if (seeded > 0) {
+                log.info("Seeded dashboard counters for {} assignees", seeded);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância populou a tabela ao mesmo tempo
+            log.debug("Dashboard counters already seeded by another instance", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskflow.taskflow.core.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache Caffeine em que o valor é carregado pela própria thread que encontrou a ausência,
+ * fora do lock do mapa. {@code Cache.get(key, loader)} roda o loader dentro de
+ * {@code ConcurrentHashMap.compute}, que é {@code synchronized}: uma consulta JDBC ali
+ * prende a carrier thread quando a requisição roda em virtual thread. Aqui o mapa só
+ * guarda um future; chamadas concorrentes para a mesma chave esperam por ele.
+ */
+public final class SingleFlightCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    private SingleFlightCache(AsyncCache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    public static <K, V> SingleFlightCache<K, V> build(Caffeine<? super K, ? super V> builder) {
+        return new SingleFlightCache<>(builder.<K, V>buildAsync());
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        // getIfPresent registra hit/miss nas estatísticas; asMap() não
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> raced = cache.asMap().putIfAbsent(key, loading);
+        if (raced != null) {
+            return join(raced);
+        }
+
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // Future com falha sai do cache; quem estava esperando recebe a mesma exceção
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    // Publica cache.gets{result=hit|miss}, cache.evictions, cache.size etc. com a tag cache=name
+    public void bindTo(MeterRegistry registry, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
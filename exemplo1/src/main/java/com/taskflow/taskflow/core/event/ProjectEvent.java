@@ -0,0 +1,22 @@
+package com.taskflow.taskflow.core.event;
+
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado pelos serviços quando algo muda dentro de um projeto.
+ * Os listeners que reagem após o commit usam {@code @TransactionalEventListener}.
+ */
+public interface ProjectEvent {
+
+    UUID projectId();
+
+    /**
+     * Nome estável do evento, no formato {@code entidade.acao} (ex.: {@code task.created}).
+     */
+    String eventType();
+
+    /**
+     * Id da entidade alterada (tarefa, comentário...).
+     */
+    UUID entityId();
+}
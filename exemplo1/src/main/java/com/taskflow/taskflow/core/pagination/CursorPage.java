@@ -0,0 +1,28 @@
+package com.taskflow.taskflow.core.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} linhas:
+     * a linha extra só indica que existe uma próxima página e não é devolvida.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    public static int clampSize(int size, int maxSize) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, maxSize);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.core.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição opaca de uma paginação por keyset ordenada por (instante, id).
+ * O cliente recebe apenas a forma codificada e a devolve sem interpretá-la.
+ * O instante pode ser nulo quando a ordenação admite valores ausentes (ex.: tarefas sem prazo).
+ */
+public record KeysetCursor(Instant instant, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (instant != null ? instant.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                    separator > 0 ? Instant.parse(raw.substring(0, separator)) : null,
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.taskflow.core.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mede quantos statements SQL cada requisição dispara e registra em
+ * {@code taskflow.http.sql.statements} por rota. Acima do limite configurado a requisição é
+ * tratada como suspeita de N+1: loga um aviso e incrementa {@code taskflow.http.sql.excessive}.
+ * Roda antes da segurança para contar também as consultas do filtro JWT.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(
+            SqlStatementCounter statementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.sql.statements-per-request.warn-threshold:20}") int warnThreshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.end();
+            String uri = routeOf(request);
+            DistributionSummary.builder("taskflow.http.sql.statements")
+                    .description("SQL statements issued per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > warnThreshold) {
+                Counter.builder("taskflow.http.sql.excessive")
+                        .description("Requests above the statements-per-request threshold (possible N+1)")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Possible N+1: {} {} issued {} SQL statements (threshold {})",
+                        request.getMethod(), uri, statements, warnThreshold);
+            }
+        }
+    }
+
+    // Usa o padrão da rota para não gerar uma série de métrica por id
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
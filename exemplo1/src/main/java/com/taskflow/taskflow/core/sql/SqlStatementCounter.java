@@ -0,0 +1,34 @@
+package com.taskflow.taskflow.core.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta os statements que o Hibernate prepara na thread atual enquanto um escopo está
+ * aberto (uma requisição HTTP, ver {@link SqlStatementCountFilter}). Registrado como
+ * {@code hibernate.session_factory.statement_inspector}; não altera o SQL.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    public int end() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
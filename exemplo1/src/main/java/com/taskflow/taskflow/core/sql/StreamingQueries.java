@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.core.sql;
+
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Leituras longas (exportação, reconstrução do índice de busca) sem carregar o result set inteiro.
+ * No MySQL o fetch size {@code Integer.MIN_VALUE} faz o Connector/J entregar linha a linha, sem
+ * precisar de useCursorFetch na URL (que trocaria todos os statements da aplicação por prepared
+ * statements no servidor). Enquanto o stream está aberto a conexão não aceita outro statement.
+ * O H2 recusa fetch size negativo, por isso os profiles com H2 configuram um valor positivo.
+ */
+@Component
+public class StreamingQueries {
+
+    private final int fetchSize;
+
+    public StreamingQueries(@Value("${taskflow.jdbc.streaming-fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public <T> Stream<T> stream(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).getResultStream();
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskflow.taskflow.dashboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// Contadores por responsável mantidos pelo TaskService na mesma transação da escrita
+@Entity
+@Table(name = "task_status_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusCounter {
+
+    @Id
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+}
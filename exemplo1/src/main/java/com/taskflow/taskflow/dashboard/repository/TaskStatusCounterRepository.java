@@ -0,0 +1,57 @@
+package com.taskflow.taskflow.dashboard.repository;
+
+import com.taskflow.taskflow.dashboard.model.TaskStatusCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TaskStatusCounterRepository extends JpaRepository<TaskStatusCounter, UUID> {
+
+    // Upsert atômico: soma os deltas sem ler a linha antes
+    // SQL nativo declara a tabela afetada; sem isso o Hibernate esvazia todo o cache L2 a cada execução
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counters"))
+    @Query(value = "INSERT INTO task_status_counters (assignee_id, todo_count, in_progress_count, done_count) " +
+            "VALUES (:assigneeId, :todo, :inProgress, :done) " +
+            "ON DUPLICATE KEY UPDATE todo_count = todo_count + :todo, " +
+            "in_progress_count = in_progress_count + :inProgress, " +
+            "done_count = done_count + :done", nativeQuery = true)
+    int addDeltas(
+            @Param("assigneeId") UUID assigneeId,
+            @Param("todo") long todo,
+            @Param("inProgress") long inProgress,
+            @Param("done") long done
+    );
+
+    // Só insere: se a linha já existe (um addDeltas concorrente a criou), ela é mantida como está
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counters"))
+    @Query(value = "INSERT INTO task_status_counters (assignee_id, todo_count, in_progress_count, done_count) " +
+            "VALUES (:assigneeId, :todo, :inProgress, :done) " +
+            "ON DUPLICATE KEY UPDATE assignee_id = assignee_id",
+            nativeQuery = true)
+    int insertCountsIfAbsent(
+            @Param("assigneeId") UUID assigneeId,
+            @Param("todo") long todo,
+            @Param("inProgress") long inProgress,
+            @Param("done") long done
+    );
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counters"))
+    @Query(value = "INSERT INTO task_status_counters (assignee_id, todo_count, in_progress_count, done_count) " +
+            "SELECT assignee_id, " +
+            "SUM(CASE WHEN status = 'TODO' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'IN_PROGRESS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'DONE' THEN 1 ELSE 0 END) " +
+            "FROM tasks WHERE assignee_id IS NOT NULL GROUP BY assignee_id", nativeQuery = true)
+    int rebuildAll();
+}
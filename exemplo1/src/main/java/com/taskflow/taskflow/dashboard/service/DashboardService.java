@@ -1,27 +1,26 @@
 package com.taskflow.taskflow.dashboard.service;
 
 import com.taskflow.taskflow.dashboard.dto.DashboardResponse;
+import com.taskflow.taskflow.dashboard.model.TaskStatusCounter;
+import com.taskflow.taskflow.dashboard.repository.TaskStatusCounterRepository;
 import com.taskflow.taskflow.security.UserPrincipal;
-import com.taskflow.taskflow.task.model.TaskStatus;
-import com.taskflow.taskflow.task.repository.TaskRepository;
-import com.taskflow.taskflow.user.model.Usuario;
-import com.taskflow.taskflow.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final TaskRepository taskRepository;
-    private final UserService userService;
+    private final TaskStatusCounterRepository counterRepository;
+    private final TaskCounterService taskCounterService;
 
+    @Transactional
     public DashboardResponse getDashboardSummary(UserPrincipal currentUserPrincipal) {
-        Usuario currentUser = userService.validateAndGetUserByUsername(currentUserPrincipal.getUsername());
-        long todoCount = taskRepository.countByStatusAndAssignee(TaskStatus.TODO, currentUser);
-        long inProgressCount = taskRepository.countByStatusAndAssignee(TaskStatus.IN_PROGRESS, currentUser);
-        long doneCount = taskRepository.countByStatusAndAssignee(TaskStatus.DONE, currentUser);
+        // Leitura por chave primária; sem linha de contadores, recalcula com GROUP BY
+        TaskStatusCounter counter = counterRepository.findById(currentUserPrincipal.getId())
+                .orElseGet(() -> taskCounterService.rebuild(currentUserPrincipal.getId()));
 
-        return new DashboardResponse(todoCount, inProgressCount, doneCount);
+        return new DashboardResponse(counter.getTodoCount(), counter.getInProgressCount(), counter.getDoneCount());
     }
 }
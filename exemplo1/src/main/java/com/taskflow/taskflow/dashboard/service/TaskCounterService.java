@@ -0,0 +1,108 @@
+package com.taskflow.taskflow.dashboard.service;
+
+import com.taskflow.taskflow.dashboard.model.TaskStatusCounter;
+import com.taskflow.taskflow.dashboard.repository.TaskStatusCounterRepository;
+import com.taskflow.taskflow.task.dto.TaskStatusCount;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskCounterService {
+
+    private final TaskStatusCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional
+    public void taskAdded(UUID assigneeId, TaskStatus status) {
+        apply(assigneeId, delta(status, 1));
+    }
+
+    @Transactional
+    public void tasksAdded(UUID assigneeId, TaskStatus status, long count) {
+        apply(assigneeId, delta(status, count));
+    }
+
+    @Transactional
+    public void taskRemoved(UUID assigneeId, TaskStatus status) {
+        apply(assigneeId, delta(status, -1));
+    }
+
+    @Transactional
+    public void taskMoved(UUID assigneeId, TaskStatus from, TaskStatus to) {
+        tasksMoved(assigneeId, from, to, 1);
+    }
+
+    @Transactional
+    public void tasksMoved(UUID assigneeId, TaskStatus from, TaskStatus to, long count) {
+        if (from == to) {
+            return;
+        }
+        long[] deltas = delta(from, -count);
+        deltas[to.ordinal()] += count;
+        apply(assigneeId, deltas);
+    }
+
+    @Transactional
+    public void taskReassigned(UUID fromAssigneeId, UUID toAssigneeId, TaskStatus status) {
+        if (fromAssigneeId != null && fromAssigneeId.equals(toAssigneeId)) {
+            return;
+        }
+        taskRemoved(fromAssigneeId, status);
+        taskAdded(toAssigneeId, status);
+    }
+
+    @Transactional
+    public void tasksReassigned(UUID fromAssigneeId, UUID toAssigneeId, TaskStatus status, long count) {
+        if (fromAssigneeId != null && fromAssigneeId.equals(toAssigneeId)) {
+            return;
+        }
+        apply(fromAssigneeId, delta(status, -count));
+        apply(toAssigneeId, delta(status, count));
+    }
+
+    // Fallback: recalcula os contadores do usuário com um GROUP BY sobre tasks. A gravação não
+    // sobrescreve uma linha criada depois da leitura, para não apagar deltas já commitados
+    @Transactional
+    public TaskStatusCounter rebuild(UUID assigneeId) {
+        TaskStatusCounter counter = new TaskStatusCounter(assigneeId, 0, 0, 0);
+        for (TaskStatusCount row : taskRepository.countByAssigneeGroupedByStatus(assigneeId)) {
+            switch (row.status()) {
+                case TODO -> counter.setTodoCount(row.count());
+                case IN_PROGRESS -> counter.setInProgressCount(row.count());
+                case DONE -> counter.setDoneCount(row.count());
+            }
+        }
+        counterRepository.insertCountsIfAbsent(assigneeId, counter.getTodoCount(), counter.getInProgressCount(), counter.getDoneCount());
+        return counter;
+    }
+
+    @Transactional
+    public int rebuildAllIfEmpty() {
+        if (counterRepository.count() > 0) {
+            return 0;
+        }
+        return counterRepository.rebuildAll();
+    }
+
+    private void apply(UUID assigneeId, long[] deltas) {
+        if (assigneeId == null) {
+            return;
+        }
+        counterRepository.addDeltas(assigneeId,
+                deltas[TaskStatus.TODO.ordinal()],
+                deltas[TaskStatus.IN_PROGRESS.ordinal()],
+                deltas[TaskStatus.DONE.ordinal()]);
+    }
+
+    private static long[] delta(TaskStatus status, long amount) {
+        long[] deltas = new long[TaskStatus.values().length];
+        deltas[status.ordinal()] = amount;
+        return deltas;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.taskflow.outbox.dto;
+
+import com.taskflow.taskflow.outbox.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+    public static OutboxMessage fromEntity(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                UUID.fromString(event.getAggregateId()),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskflow.taskflow.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Evento do outbox que esgotou as tentativas de entrega. Sai da fila para não travar a partição
+ * e fica aqui com o último erro, para ser analisado e reenviado manualmente.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Id original em outbox_events
+    @Column(name = "event_id", nullable = false)
+    private long eventId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "dead_lettered_at", nullable = false)
+    private Instant deadLetteredAt;
+
+    public static OutboxDeadLetter fromEvent(OutboxEvent event, int attempts, String lastError) {
+        return new OutboxDeadLetter(null, event.getId(), event.getPartitionNo(), event.getAggregateType(),
+                event.getAggregateId(), event.getEventType(), event.getPayload(), attempts,
+                truncate(lastError, 1000), event.getCreatedAt(), Instant.now());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Linha de trava de uma partição do outbox: quem a trava com {@code FOR UPDATE SKIP LOCKED}
+ * é o único dispatcher entregando os eventos daquela partição.
+ */
+@Entity
+@Table(name = "outbox_partitions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxPartition {
+
+    @Id
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+}
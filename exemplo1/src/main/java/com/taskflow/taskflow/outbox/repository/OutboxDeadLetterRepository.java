@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.outbox.repository;
+
+import com.taskflow.taskflow.outbox.model.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
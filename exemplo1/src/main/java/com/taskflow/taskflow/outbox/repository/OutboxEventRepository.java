@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.outbox.repository;
+
+import com.taskflow.taskflow.outbox.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Trava as partições com eventos pendentes que nenhum outro dispatcher está entregando
+    @Query(value = "SELECT p.partition_no FROM outbox_partitions p " +
+            "WHERE EXISTS (SELECT 1 FROM outbox_events e WHERE e.partition_no = p.partition_no) " +
+            "ORDER BY p.partition_no LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Integer> lockPendingPartitions(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM outbox_events WHERE partition_no IN (:partitions) ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<OutboxEvent> findBatch(@Param("partitions") Collection<Integer> partitions, @Param("limit") int limit);
+}
@@ -0,0 +1,21 @@
+package com.taskflow.taskflow.outbox.repository;
+
+import com.taskflow.taskflow.outbox.model.OutboxPartition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxPartitionRepository extends JpaRepository<OutboxPartition, Integer> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_partitions"))
+    @Query(value = "INSERT INTO outbox_partitions (partition_no) VALUES (:partitionNo) " +
+            "ON DUPLICATE KEY UPDATE partition_no = partition_no", nativeQuery = true)
+    void ensurePartition(@Param("partitionNo") int partitionNo);
+}
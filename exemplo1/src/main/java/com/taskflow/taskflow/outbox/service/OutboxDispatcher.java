@@ -0,0 +1,180 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.taskflow.taskflow.outbox.dto.OutboxMessage;
+import com.taskflow.taskflow.outbox.model.OutboxDeadLetter;
+import com.taskflow.taskflow.outbox.model.OutboxEvent;
+import com.taskflow.taskflow.outbox.repository.OutboxDeadLetterRepository;
+import com.taskflow.taskflow.outbox.repository.OutboxEventRepository;
+import com.taskflow.taskflow.outbox.repository.OutboxPartitionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drena o outbox em lotes e entrega os eventos aos {@link OutboxHandler}s.
+ * Cada lote trava as partições pendentes com {@code FOR UPDATE SKIP LOCKED}: várias instâncias
+ * dividem o trabalho sem entregar fora de ordem eventos do mesmo projeto.
+ * Sem nenhum handler registrado o outbox não é drenado: os eventos ficam na tabela até existir
+ * um consumidor, em vez de serem contados como entregues e apagados.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxPartitionRepository partitionRepository;
+    private final OutboxDeadLetterRepository deadLetterRepository;
+    private final List<OutboxHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private final Timer lag;
+    private final Timer batchTimer;
+
+    public OutboxDispatcher(
+            OutboxEventRepository eventRepository,
+            OutboxPartitionRepository partitionRepository,
+            OutboxDeadLetterRepository deadLetterRepository,
+            ObjectProvider<OutboxHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.outbox.partitions:16}") int partitions,
+            @Value("${taskflow.outbox.dispatcher.batch-size:200}") int batchSize,
+            @Value("${taskflow.outbox.dispatcher.max-attempts:10}") int maxAttempts) {
+        this.eventRepository = eventRepository;
+        this.partitionRepository = partitionRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.handlers = handlers.orderedStream().toList();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.dispatched = meterRegistry.counter("taskflow.outbox.dispatched");
+        this.failed = meterRegistry.counter("taskflow.outbox.failed");
+        this.deadLettered = meterRegistry.counter("taskflow.outbox.dead.lettered");
+        this.lag = Timer.builder("taskflow.outbox.lag")
+                .description("Tempo entre a gravação do evento e a sua entrega")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = meterRegistry.timer("taskflow.outbox.batch");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitions() {
+        if (handlers.isEmpty()) {
+            log.warn("No OutboxHandler registered; outbox events will be kept until a consumer is available");
+        }
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int partition = 0; partition < partitions; partition++) {
+                partitionRepository.ensurePartition(partition);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.outbox.dispatcher.poll-interval-ms:500}")
+    public void drain() {
+        try {
+            // Lote cheio indica backlog: continua drenando sem esperar o próximo ciclo
+            while (dispatchBatch() >= batchSize) {
+                log.trace("Outbox backlog remaining, dispatching next batch");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox dispatch failed, retrying on next poll", e);
+        }
+    }
+
+    /**
+     * Entrega um lote e devolve quantos eventos foram lidos; devolve 0 se alguma entrega falhou,
+     * para que o próximo lote espere o intervalo de polling (backoff).
+     */
+    int dispatchBatch() {
+        if (handlers.isEmpty()) {
+            return 0;
+        }
+        Integer result = transactionTemplate.execute(tx -> batchTimer.record(this::dispatchLockedBatch));
+        return result != null ? result : 0;
+    }
+
+    private int dispatchLockedBatch() {
+        // 1. Travar as partições com eventos pendentes que estão livres
+        List<Integer> lockedPartitions = eventRepository.lockPendingPartitions(partitions);
+        if (lockedPartitions.isEmpty()) {
+            return 0;
+        }
+
+        // 2. Ler os eventos dessas partições em ordem de gravação
+        List<OutboxEvent> batch = eventRepository.findBatch(lockedPartitions, batchSize);
+        Set<Integer> blockedPartitions = new HashSet<>();
+        List<Long> delivered = new ArrayList<>();
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            if (blockedPartitions.contains(event.getPartitionNo())) {
+                continue;
+            }
+            Exception error = deliver(event);
+            if (error == null) {
+                delivered.add(event.getId());
+                lag.record(Duration.between(event.getCreatedAt(), Instant.now()));
+            } else if (event.getAttempts() + 1 >= maxAttempts) {
+                // Sai da fila para liberar a partição, mas fica guardado em outbox_dead_letters
+                log.error("Moving outbox event {} ({}) to dead letters after {} attempts", event.getId(), event.getEventType(), maxAttempts);
+                deadLetters.add(OutboxDeadLetter.fromEvent(event, event.getAttempts() + 1, error.toString()));
+                delivered.add(event.getId());
+                deadLettered.increment();
+            } else {
+                // Entidade gerenciada: o incremento é gravado no commit do lote
+                event.setAttempts(event.getAttempts() + 1);
+                blockedPartitions.add(event.getPartitionNo());
+                failed.increment();
+            }
+        }
+
+        // 3. Remover os entregues e os movidos para dead letters; os demais continuam na fila, na mesma ordem
+        if (!deadLetters.isEmpty()) {
+            deadLetterRepository.saveAll(deadLetters);
+        }
+        if (!delivered.isEmpty()) {
+            eventRepository.deleteAllByIdInBatch(delivered);
+            dispatched.increment(delivered.size());
+        }
+        return blockedPartitions.isEmpty() ? batch.size() : 0;
+    }
+
+    // Devolve null quando todos os handlers aceitaram o evento, ou o erro da entrega
+    private Exception deliver(OutboxEvent event) {
+        OutboxMessage message = OutboxMessage.fromEntity(event);
+        try {
+            for (OutboxHandler handler : handlers) {
+                handler.handle(message);
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("Outbox handler failed for event {} ({})", event.getId(), event.getEventType(), e);
+            return e;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.taskflow.taskflow.outbox.dto.OutboxMessage;
+
+/**
+ * Consumidor dos eventos do outbox. A entrega é pelo menos uma vez e em ordem por projeto;
+ * se o handler lançar exceção, o evento e os seguintes da mesma partição são tentados de novo.
+ */
+public interface OutboxHandler {
+
+    void handle(OutboxMessage message) throws Exception;
+}
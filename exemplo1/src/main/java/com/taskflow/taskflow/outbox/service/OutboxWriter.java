@@ -0,0 +1,124 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.core.event.ProjectEvent;
+import com.taskflow.taskflow.project.service.ProjectVersionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grava cada {@link ProjectEvent} no outbox dentro da transação que o publicou.
+ * Os eventos da transação são acumulados e inseridos em um único batch JDBC antes do commit
+ * (o id IDENTITY impede o batch do Hibernate), então uma inserção em massa não vira N INSERTs.
+ * O id é atribuído no INSERT, não no commit; por isso o INSERT só acontece depois que a transação
+ * trava as linhas de {@code project_versions} dos seus projetos. Duas transações no mesmo projeto
+ * ficam serializadas e a ordem dos ids segue a ordem de commit, que é a que o dispatcher entrega.
+ */
+@Component
+public class OutboxWriter {
+
+    static final String AGGREGATE_TYPE = "project";
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events " +
+            "(partition_no, aggregate_type, aggregate_id, event_type, payload, attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int partitions;
+    private final Counter written;
+
+    public OutboxWriter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.outbox.partitions:16}") int partitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.partitions = partitions;
+        this.written = meterRegistry.counter("taskflow.outbox.written");
+    }
+
+    @EventListener
+    public void onProjectEvent(ProjectEvent event) {
+        OutboxRow row = toRow(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(row));
+            return;
+        }
+        PendingRows pending = (PendingRows) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRows();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(row);
+    }
+
+    // Eventos do mesmo projeto caem sempre na mesma partição, o que preserva a ordem entre eles
+    static int partitionOf(UUID projectId, int partitions) {
+        return Math.floorMod(projectId.hashCode(), partitions);
+    }
+
+    private OutboxRow toRow(ProjectEvent event) {
+        try {
+            return new OutboxRow(
+                    partitionOf(event.projectId(), partitions),
+                    event.projectId().toString(),
+                    event.eventType(),
+                    objectMapper.writeValueAsString(event),
+                    Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event " + event.eventType(), e);
+        }
+    }
+
+    private void insert(List<OutboxRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setInt(1, row.partition());
+            statement.setString(2, AGGREGATE_TYPE);
+            statement.setString(3, row.aggregateId());
+            statement.setString(4, row.eventType());
+            statement.setString(5, row.payload());
+            statement.setTimestamp(6, Timestamp.from(row.createdAt()));
+        });
+        written.increment(rows.size());
+    }
+
+    private record OutboxRow(int partition, String aggregateId, String eventType, String payload, Instant createdAt) {
+    }
+
+    private class PendingRows implements TransactionSynchronization {
+
+        private final List<OutboxRow> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            insert(rows);
+        }
+
+        // Depois do incremento de versão, que trava os projetos da transação
+        @Override
+        public int getOrder() {
+            return ProjectVersionService.SYNCHRONIZATION_ORDER + 1;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+        }
+    }
+}
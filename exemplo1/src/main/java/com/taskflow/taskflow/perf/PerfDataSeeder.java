@@ -0,0 +1,169 @@
+package com.taskflow.taskflow.perf;
+
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.UserStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Popula o banco do profile {@code perf} com o dataset descrito por {@link PerfDataset},
+ * direto por JDBC em lotes. Roda antes dos demais initializers para que os contadores do
+ * dashboard sejam reconstruídos já com as tarefas geradas. Se o banco já tem o dataset
+ * (arquivo H2 reaproveitado) não faz nada.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PerfDataSeeder implements CommandLineRunner {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PerfDataset dataset;
+    private final int batchSize;
+
+    public PerfDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            @Value("${taskflow.perf.seed.users}") int users,
+            @Value("${taskflow.perf.seed.projects}") int projects,
+            @Value("${taskflow.perf.seed.projects-per-user}") int projectsPerUser,
+            @Value("${taskflow.perf.seed.tasks-per-project}") int tasksPerProject,
+            @Value("${taskflow.perf.seed.comments-per-task}") int commentsPerTask,
+            @Value("${taskflow.perf.seed.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.dataset = new PerfDataset(users, projects, projectsPerUser, tasksPerProject, commentsPerTask);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        if (existing != null && existing >= dataset.totalTasks()) {
+            log.info("Perf dataset already present ({} tasks), skipping seed", existing);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        seedUsers(base);
+        seedProjects(base);
+        seedMembers();
+        seedTasks(base);
+        seedComments(base);
+        log.info("Perf dataset seeded: {} users, {} projects, {} tasks, {} comments in {} ms",
+                dataset.users(), dataset.projects(), dataset.totalTasks(),
+                dataset.totalTasks() * dataset.commentsPerTask(), System.currentTimeMillis() - start);
+    }
+
+    private void seedUsers(Instant base) {
+        // Um único hash para todos: BCrypt de milhares de senhas dominaria o tempo de seed
+        String passwordHash = passwordEncoder.encode(PerfDataset.PASSWORD);
+        Timestamp createdAt = Timestamp.from(base);
+        insert("INSERT INTO users (id, name, email, password_hash, role, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                dataset.users(), (ps, row) -> {
+                    int u = (int) row;
+                    ps.setObject(1, PerfDataset.userId(u));
+                    ps.setString(2, "Perf User " + u);
+                    ps.setString(3, PerfDataset.email(u));
+                    ps.setString(4, passwordHash);
+                    ps.setString(5, (u < dataset.projects() ? UserRole.MANAGER : UserRole.COLLABORATOR).name());
+                    ps.setString(6, UserStatus.ACTIVE.name());
+                    ps.setTimestamp(7, createdAt);
+                });
+    }
+
+    private void seedProjects(Instant base) {
+        Timestamp createdAt = Timestamp.from(base);
+        insert("INSERT INTO projects (id, name, description, owner_id, created_at, archived) VALUES (?, ?, ?, ?, ?, FALSE)",
+                dataset.projects(), (ps, row) -> {
+                    int p = (int) row;
+                    ps.setObject(1, PerfDataset.projectId(p));
+                    ps.setString(2, "Perf Project " + p);
+                    ps.setString(3, "Synthetic project " + p);
+                    ps.setObject(4, PerfDataset.userId(dataset.ownerOf(p)));
+                    ps.setTimestamp(5, createdAt);
+                });
+    }
+
+    private void seedMembers() {
+        int perUser = dataset.projectsPerUser();
+        insert("INSERT INTO project_members (project_id, user_id) VALUES (?, ?)",
+                (long) dataset.users() * perUser, (ps, i) -> {
+                    int user = (int) (i / perUser);
+                    ps.setObject(1, PerfDataset.projectId(dataset.projectOf(user, (int) (i % perUser))));
+                    ps.setObject(2, PerfDataset.userId(user));
+                });
+    }
+
+    private void seedTasks(Instant base) {
+        int perProject = dataset.tasksPerProject();
+        insert("INSERT INTO tasks (id, title, description, status, project_id, assignee_id, due_date, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                dataset.totalTasks(), (ps, i) -> {
+                    int project = (int) (i / perProject);
+                    int task = (int) (i % perProject);
+                    Integer assignee = dataset.assigneeOf(project, task);
+                    ps.setObject(1, PerfDataset.taskId(project, task));
+                    ps.setString(2, "Task " + task + " of project " + project);
+                    ps.setString(3, "Synthetic task used by the load test harness");
+                    ps.setString(4, STATUSES[task % STATUSES.length].name());
+                    ps.setObject(5, PerfDataset.projectId(project));
+                    ps.setObject(6, assignee != null ? PerfDataset.userId(assignee) : null);
+                    ps.setTimestamp(7, Timestamp.from(base.plus(task % 60, ChronoUnit.DAYS)));
+                    ps.setTimestamp(8, Timestamp.from(base.minusSeconds(perProject - task)));
+                });
+    }
+
+    private void seedComments(Instant base) {
+        int perTask = dataset.commentsPerTask();
+        int perProject = dataset.tasksPerProject();
+        insert("INSERT INTO comments (id, content, task_id, author_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                dataset.totalTasks() * perTask, (ps, i) -> {
+                    long taskIndex = i / perTask;
+                    int project = (int) (taskIndex / perProject);
+                    int task = (int) (taskIndex % perProject);
+                    Integer assignee = dataset.assigneeOf(project, task);
+                    int author = assignee != null ? assignee : dataset.ownerOf(project);
+                    ps.setObject(1, PerfDataset.commentId(project, (long) task * perTask + i % perTask));
+                    ps.setString(2, "Synthetic comment " + i % perTask);
+                    ps.setObject(3, PerfDataset.taskId(project, task));
+                    ps.setObject(4, PerfDataset.userId(author));
+                    ps.setTimestamp(5, Timestamp.from(base.minusSeconds(perProject - task).plusSeconds(1 + i % perTask)));
+                });
+    }
+
+    private void insert(String sql, long rows, RowWriter writer) {
+        List<Long> chunk = new ArrayList<>(batchSize);
+        for (long i = 0; i < rows; i++) {
+            chunk.add(i);
+            if (chunk.size() == batchSize || i == rows - 1) {
+                jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, row) -> writer.write(ps, row));
+                chunk.clear();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long row) throws SQLException;
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.taskflow.perf;
+
+import java.util.UUID;
+
+/**
+ * Forma do dataset sintético do profile {@code perf}. Ids, e-mails e vínculos são derivados
+ * dos índices, de modo que o gerador de carga consegue montar requisições válidas sem
+ * consultar o banco: o usuário {@code u} é membro dos projetos
+ * {@code (u + k) % projects} para {@code k < projectsPerUser}, e cada tarefa do projeto
+ * {@code p} é atribuída a um usuário com {@code u % projects == p}.
+ */
+public record PerfDataset(int users, int projects, int projectsPerUser, int tasksPerProject, int commentsPerTask) {
+
+    public static final String PASSWORD = "perf-password";
+
+    private static final long USER = 1L << 32;
+    private static final long PROJECT = 2L << 32;
+    private static final long TASK = 3L << 32;
+    private static final long COMMENT = 4L << 32;
+
+    public PerfDataset {
+        if (users < projects) {
+            throw new IllegalArgumentException("Dataset needs at least one user per project (owners)");
+        }
+        if (projectsPerUser < 1 || projectsPerUser > projects) {
+            throw new IllegalArgumentException("projectsPerUser must be between 1 and projects");
+        }
+    }
+
+    public static String email(int user) {
+        return "user" + user + "@perf.taskflow";
+    }
+
+    public static UUID userId(int user) {
+        return new UUID(USER, user);
+    }
+
+    public static UUID projectId(int project) {
+        return new UUID(PROJECT, project);
+    }
+
+    public static UUID taskId(int project, int task) {
+        return new UUID(TASK | project, task);
+    }
+
+    public static UUID commentId(int project, long comment) {
+        return new UUID(COMMENT | project, comment);
+    }
+
+    public int projectOf(int user, int membership) {
+        return (user + membership) % projects;
+    }
+
+    public int ownerOf(int project) {
+        return project;
+    }
+
+    // Um em cada cinco sem responsável, como no uso real
+    public Integer assigneeOf(int project, int task) {
+        if (task % 5 == 4) {
+            return null;
+        }
+        int candidates = (users - 1 - project) / projects + 1;
+        return project + projects * (task % candidates);
+    }
+
+    public long totalTasks() {
+        return (long) projects * tasksPerProject;
+    }
+}
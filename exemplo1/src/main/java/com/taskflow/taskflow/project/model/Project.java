@@ -1,11 +1,14 @@
 package com.taskflow.taskflow.project.model;
 
+import com.taskflow.taskflow.core.id.GeneratedUuidV7;
 import com.taskflow.taskflow.user.model.Usuario;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -14,6 +17,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,7 @@ import java.util.UUID;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
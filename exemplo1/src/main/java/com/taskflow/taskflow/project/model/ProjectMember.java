@@ -6,11 +6,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 
 @Entity
 @Table(name = "project_members")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
 @Getter
 @Setter
 @NoArgsConstructor
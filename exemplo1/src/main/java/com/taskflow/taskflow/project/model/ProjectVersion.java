@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.project.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// Versão de mudanças do projeto: incrementada na mesma transação de cada escrita em tarefas e comentários
+@Entity
+@Table(name = "project_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectVersion {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(nullable = false)
+    private long version;
+}
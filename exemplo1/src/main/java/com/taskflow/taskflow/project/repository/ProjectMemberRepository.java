@@ -1,8 +1,11 @@
 package com.taskflow.taskflow.project.repository;
 
+import com.taskflow.taskflow.project.dto.ProjectResponse;
 import com.taskflow.taskflow.project.model.ProjectMember;
 import com.taskflow.taskflow.project.model.ProjectMemberId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +14,9 @@ import java.util.UUID;
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, ProjectMemberId> {
     boolean existsByProjectIdAndUserId(UUID projectId, UUID userId);
-    List<ProjectMember> findAllByUserId(UUID userId);
+
+    // Projeção direta: um SELECT com join, sem carregar ProjectMember/Project/owner
+    @Query("SELECT new com.taskflow.taskflow.project.dto.ProjectResponse(p.id, p.name, p.description, p.owner.id) " +
+            "FROM ProjectMember pm JOIN pm.project p WHERE pm.user.id = :userId ORDER BY p.name, p.id")
+    List<ProjectResponse> findProjectsByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,28 @@
+package com.taskflow.taskflow.project.repository;
+
+import com.taskflow.taskflow.project.model.ProjectVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProjectVersionRepository extends JpaRepository<ProjectVersion, UUID> {
+
+    @Query("SELECT v.version FROM ProjectVersion v WHERE v.projectId = :projectId")
+    Optional<Long> findVersionByProjectId(@Param("projectId") UUID projectId);
+
+    // Upsert atômico: a trava da linha serializa escritas concorrentes no mesmo projeto
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_versions"))
+    @Query(value = "INSERT INTO project_versions (project_id, version) VALUES (:projectId, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int increment(@Param("projectId") UUID projectId);
+}
@@ -0,0 +1,81 @@
+package com.taskflow.taskflow.project.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.taskflow.core.cache.SingleFlightCache;
+import com.taskflow.taskflow.core.transaction.TransactionCallbacks;
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cache de autorização (projeto, usuário) -> membro usado por TaskService e CommentService.
+ * Respostas negativas ficam pouco tempo para que um membro recém-adicionado em outra
+ * instância não seja bloqueado por muito tempo; nesta instância a invalidação é exata.
+ */
+@Component
+public class ProjectMembershipCache implements MeterBinder {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final SingleFlightCache<MembershipKey, Boolean> cache;
+
+    public ProjectMembershipCache(
+            ProjectMemberRepository projectMemberRepository,
+            @Value("${taskflow.membership-cache.maximum-size:100000}") long maximumSize,
+            @Value("${taskflow.membership-cache.member-ttl:10m}") Duration memberTtl,
+            @Value("${taskflow.membership-cache.non-member-ttl:30s}") Duration nonMemberTtl) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.cache = SingleFlightCache.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new MembershipExpiry(memberTtl.toNanos(), nonMemberTtl.toNanos()))
+                .recordStats());
+    }
+
+    public boolean isMember(UUID projectId, UUID userId) {
+        return cache.get(new MembershipKey(projectId, userId),
+                key -> projectMemberRepository.existsByProjectIdAndUserId(key.projectId(), key.userId()));
+    }
+
+    // Chamado por quem altera project_members; só invalida depois do commit
+    public void invalidate(UUID projectId, UUID userId) {
+        MembershipKey key = new MembershipKey(projectId, userId);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(key));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Registrado pelo Actuator como qualquer MeterBinder do contexto
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "project-membership");
+    }
+
+    record MembershipKey(UUID projectId, UUID userId) {
+    }
+
+    private record MembershipExpiry(long memberTtlNanos, long nonMemberTtlNanos) implements Expiry<MembershipKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(MembershipKey key, Boolean member, long currentTime) {
+            return member ? memberTtlNanos : nonMemberTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -11,22 +11,25 @@ import com.taskflow.taskflow.project.dto.AddMemberRequest;
 import com.taskflow.taskflow.security.UserPrincipal;
 import com.taskflow.taskflow.user.repository.UsuarioRepository;
 import com.taskflow.taskflow.user.model.Usuario;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskflow.service", histogram = true)
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UsuarioRepository usuarioRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final UserProjectsCache userProjectsCache;
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest request, Usuario owner) {
@@ -43,16 +46,15 @@ public class ProjectService {
         // Adiciona o proprietário como o primeiro membro do projeto
         ProjectMember member = new ProjectMember(savedProject, managedOwner);
         projectMemberRepository.save(member);
+        projectMembershipCache.invalidate(savedProject.getId(), managedOwner.getId());
+        userProjectsCache.invalidate(managedOwner.getId());
 
         return ProjectResponse.fromEntity(savedProject);
     }
 
-    @Transactional
+    // Sem @Transactional: no acerto do cache não há motivo para pegar conexão do pool
     public List<ProjectResponse> getProjectsByUser(UserPrincipal currentUser) {
-        return projectMemberRepository.findAllByUserId(currentUser.getId()).stream()
-                .map(ProjectMember::getProject)
-                .map(ProjectResponse::fromEntity)
-                .collect(Collectors.toList());
+        return userProjectsCache.get(currentUser.getId());
     }
 
     @Transactional
@@ -82,5 +84,7 @@ public class ProjectService {
         // 5. Adicionar o novo membro
         ProjectMember newMember = new ProjectMember(project, userToAdd);
         projectMemberRepository.save(newMember);
+        projectMembershipCache.invalidate(projectId, userToAdd.getId());
+        userProjectsCache.invalidate(userToAdd.getId());
     }
 }
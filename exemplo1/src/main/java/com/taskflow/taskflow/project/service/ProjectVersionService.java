@@ -0,0 +1,83 @@
+package com.taskflow.taskflow.project.service;
+
+import com.taskflow.taskflow.core.event.ProjectEvent;
+import com.taskflow.taskflow.project.repository.ProjectVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Mantém a versão de mudanças de cada projeto. Todo {@link ProjectEvent} publicado por uma escrita
+ * incrementa a versão do projeto antes do commit, uma vez por transação (uma inserção em massa
+ * conta como uma mudança). As listagens usam a versão como ETag sem executar a consulta da lista.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectVersionService {
+
+    /**
+     * Ordem da sincronização que incrementa as versões. Roda antes das demais do beforeCommit: a trava
+     * das linhas de versão serializa por projeto tudo o que a transação grava depois (ex.: o outbox).
+     */
+    public static final int SYNCHRONIZATION_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final ProjectVersionRepository projectVersionRepository;
+
+    public long currentVersion(UUID projectId) {
+        return projectVersionRepository.findVersionByProjectId(projectId).orElse(0L);
+    }
+
+    /**
+     * ETag fraco de uma listagem do projeto. Os filtros (status, responsável, cursor...) entram no hash
+     * para que listas diferentes do mesmo projeto não compartilhem o ETag.
+     */
+    public String listETag(UUID projectId, Object... filters) {
+        Object[] parts = Arrays.copyOf(filters, filters.length + 1);
+        parts[filters.length] = projectId;
+        return "W/\"" + currentVersion(projectId) + "-" + Integer.toHexString(Arrays.hashCode(parts)) + "\"";
+    }
+
+    @EventListener
+    public void onProjectEvent(ProjectEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projectVersionRepository.increment(event.projectId());
+            return;
+        }
+        ChangedProjects changed = (ChangedProjects) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            changed = new ChangedProjects();
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(changed);
+        }
+        changed.projectIds.add(event.projectId());
+    }
+
+    private class ChangedProjects implements TransactionSynchronization {
+
+        // Ordenado para que transações concorrentes travem as linhas de versão sempre na mesma ordem
+        private final Set<UUID> projectIds = new TreeSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            projectIds.forEach(projectVersionRepository::increment);
+        }
+
+        @Override
+        public int getOrder() {
+            return SYNCHRONIZATION_ORDER;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProjectVersionService.this);
+        }
+    }
+}
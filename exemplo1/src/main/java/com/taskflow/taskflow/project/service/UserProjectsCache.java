@@ -0,0 +1,57 @@
+package com.taskflow.taskflow.project.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.taskflow.core.cache.SingleFlightCache;
+import com.taskflow.taskflow.core.transaction.TransactionCallbacks;
+import com.taskflow.taskflow.project.dto.ProjectResponse;
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lista de projetos de cada usuário (seletor de projetos). Quem cria projeto ou adiciona
+ * membro invalida a entrada do usuário afetado depois do commit; o TTL cobre alterações
+ * feitas por outra instância.
+ */
+@Component
+public class UserProjectsCache implements MeterBinder {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final SingleFlightCache<UUID, List<ProjectResponse>> cache;
+
+    public UserProjectsCache(
+            ProjectMemberRepository projectMemberRepository,
+            @Value("${taskflow.user-projects-cache.maximum-size:10000}") long maximumSize,
+            @Value("${taskflow.user-projects-cache.ttl:5m}") Duration ttl) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.cache = SingleFlightCache.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+    }
+
+    public List<ProjectResponse> get(UUID userId) {
+        return cache.get(userId, id -> List.copyOf(projectMemberRepository.findProjectsByUserId(id)));
+    }
+
+    public void invalidate(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Registrado pelo Actuator como qualquer MeterBinder do contexto
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "user-projects");
+    }
+}
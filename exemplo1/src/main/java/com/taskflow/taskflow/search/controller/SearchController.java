@@ -0,0 +1,32 @@
+package com.taskflow.taskflow.search.controller;
+
+import com.taskflow.taskflow.search.dto.TaskSearchPage;
+import com.taskflow.taskflow.search.service.TaskSearchService;
+import com.taskflow.taskflow.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    @Autowired
+    TaskSearchService taskSearchService;
+
+    @GetMapping("/projects/{projectId}/tasks")
+    public ResponseEntity<TaskSearchPage> searchTasks(
+            @PathVariable UUID projectId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        TaskSearchPage result = taskSearchService.searchTasks(projectId, query, page, size, currentUser);
+        return ResponseEntity.ok(result);
+    }
+}
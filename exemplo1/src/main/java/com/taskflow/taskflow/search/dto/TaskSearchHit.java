@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.search.dto;
+
+import java.util.UUID;
+
+public record TaskSearchHit(
+        UUID taskId,
+        String title,
+        double score
+) {
+}
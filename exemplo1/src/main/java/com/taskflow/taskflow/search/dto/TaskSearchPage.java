@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.search.dto;
+
+import java.util.List;
+
+public record TaskSearchPage(
+        List<TaskSearchHit> hits,
+        int total,
+        int page,
+        int size
+) {
+}
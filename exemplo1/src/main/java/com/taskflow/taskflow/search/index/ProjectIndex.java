@@ -0,0 +1,186 @@
+package com.taskflow.taskflow.search.index;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido das tarefas de um projeto. Cada tarefa é um documento formado pelo título
+ * (com peso maior), pela descrição e pelos seus comentários; a relevância é calculada com BM25.
+ */
+final class ProjectIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Menor score primeiro (topo do heap); empates resolvidos pelo id para uma ordem estável
+    private static final Comparator<Map.Entry<UUID, Double>> BY_SCORE = Comparator
+            .comparing((Map.Entry<UUID, Double> entry) -> entry.getValue())
+            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, IndexedTask> tasks = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private long totalLength;
+
+    void putTask(UUID taskId, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            IndexedTask task = tasks.computeIfAbsent(taskId, id -> new IndexedTask());
+            unindex(taskId, task);
+            task.title = title;
+            task.titleTerms = SearchTokenizer.termFrequencies(title);
+            task.descriptionTerms = SearchTokenizer.termFrequencies(description);
+            index(taskId, task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeTask(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            IndexedTask task = tasks.remove(taskId);
+            if (task != null) {
+                unindex(taskId, task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putComment(UUID taskId, UUID commentId, String content) {
+        lock.writeLock().lock();
+        try {
+            IndexedTask task = tasks.get(taskId);
+            if (task == null) {
+                return;
+            }
+            unindex(taskId, task);
+            task.commentTerms.put(commentId, SearchTokenizer.termFrequencies(content));
+            index(taskId, task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeComment(UUID taskId, UUID commentId) {
+        lock.writeLock().lock();
+        try {
+            IndexedTask task = tasks.get(taskId);
+            if (task == null || !task.commentTerms.containsKey(commentId)) {
+                return;
+            }
+            unindex(taskId, task);
+            task.commentTerms.remove(commentId);
+            index(taskId, task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    TaskSearchIndex.SearchResult search(Set<String> terms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int documents = tasks.size();
+            if (documents == 0) {
+                return new TaskSearchIndex.SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documents;
+
+            // 1. Acumular o BM25 de cada termo da consulta nas tarefas que o contêm
+            Map<UUID, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Set<UUID> matches = postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents - matches.size() + 0.5) / (matches.size() + 0.5));
+                for (UUID taskId : matches) {
+                    IndexedTask task = tasks.get(taskId);
+                    int frequency = task.termFrequencies.get(term);
+                    double norm = K1 * (1 - B + B * task.length / averageLength);
+                    scores.merge(taskId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+
+            // 2. Manter só as offset + limit melhores com um heap, sem ordenar todos os resultados
+            int wanted = offset + limit;
+            PriorityQueue<Map.Entry<UUID, Double>> top = new PriorityQueue<>(BY_SCORE);
+            for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+            List<Map.Entry<UUID, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(BY_SCORE.reversed());
+
+            List<TaskSearchHit> hits = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                Map.Entry<UUID, Double> entry = ranked.get(i);
+                hits.add(new TaskSearchHit(entry.getKey(), tasks.get(entry.getKey()).title, entry.getValue()));
+            }
+            return new TaskSearchIndex.SearchResult(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(UUID taskId, IndexedTask task) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        task.titleTerms.forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        task.descriptionTerms.forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+        for (Map<String, Integer> comment : task.commentTerms.values()) {
+            comment.forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+        }
+        task.termFrequencies = frequencies;
+        task.length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        for (String term : frequencies.keySet()) {
+            postings.computeIfAbsent(term, t -> new HashSet<>()).add(taskId);
+        }
+        totalLength += task.length;
+    }
+
+    private void unindex(UUID taskId, IndexedTask task) {
+        for (String term : task.termFrequencies.keySet()) {
+            Set<UUID> matches = postings.get(term);
+            if (matches != null && matches.remove(taskId) && matches.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= task.length;
+        task.termFrequencies = Map.of();
+        task.length = 0;
+    }
+
+    private static final class IndexedTask {
+        private String title;
+        private Map<String, Integer> titleTerms = Map.of();
+        private Map<String, Integer> descriptionTerms = Map.of();
+        private final Map<UUID, Map<String, Integer>> commentTerms = new HashMap<>();
+        private Map<String, Integer> termFrequencies = Map.of();
+        private int length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflow.taskflow.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Quebra texto em termos: minúsculas, sem acentos, separando em tudo que não é letra ou dígito.
+ * O mesmo tokenizador é usado na indexação e na consulta.
+ */
+final class SearchTokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos", "um", "uma", "os", "as",
+            "para", "por", "com", "que", "se", "ou", "ao", "the", "and", "or", "of", "to", "in", "on",
+            "for", "is", "it", "an", "at", "by", "be");
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (token.length() >= MIN_LENGTH && token.length() <= MAX_LENGTH && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskflow.taskflow.search.index;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Índice de busca em memória, com um {@link ProjectIndex} por projeto. É atualizado após o commit
+ * das escritas e reconstruído a partir do banco na subida da aplicação.
+ * A reconstrução preenche um conjunto novo de documentos enquanto o atual continua atendendo buscas
+ * e escritas; as escritas desse intervalo são anotadas e reaplicadas sobre o conjunto novo na troca,
+ * para que o snapshot lido do banco não ressuscite tarefas removidas nem volte textos antigos.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private volatile Documents current = new Documents();
+    // Escritas recebidas durante uma reconstrução; null quando não há reconstrução em andamento
+    private List<Consumer<Documents>> pendingWrites;
+
+    public void indexTask(UUID projectId, UUID taskId, String title, String description) {
+        write(documents -> documents.indexTask(projectId, taskId, title, description));
+    }
+
+    public void removeTask(UUID projectId, UUID taskId) {
+        write(documents -> documents.removeTask(projectId, taskId));
+    }
+
+    public void indexComment(UUID taskId, UUID commentId, String content) {
+        write(documents -> documents.indexComment(taskId, commentId, content));
+    }
+
+    public void removeComment(UUID taskId, UUID commentId) {
+        write(documents -> documents.removeComment(taskId, commentId));
+    }
+
+    public SearchResult search(UUID projectId, String query, int offset, int limit) {
+        ProjectIndex index = current.projects.get(projectId);
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (index == null || terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        return index.search(terms, offset, limit);
+    }
+
+    public int size() {
+        return current.projectByTask.size();
+    }
+
+    // Deve ser chamado antes de abrir a leitura do banco, para que nenhuma escrita posterior ao snapshot se perca
+    public synchronized Rebuild beginRebuild() {
+        if (pendingWrites != null) {
+            throw new IllegalStateException("Search index rebuild already in progress");
+        }
+        pendingWrites = new ArrayList<>();
+        return new Rebuild();
+    }
+
+    private synchronized void write(Consumer<Documents> change) {
+        change.accept(current);
+        if (pendingWrites != null) {
+            pendingWrites.add(change);
+        }
+    }
+
+    private synchronized int publish(Documents rebuilt) {
+        pendingWrites.forEach(change -> change.accept(rebuilt));
+        pendingWrites = null;
+        current = rebuilt;
+        return rebuilt.projectByTask.size();
+    }
+
+    private synchronized void abort() {
+        pendingWrites = null;
+    }
+
+    public final class Rebuild {
+
+        private final Documents documents = new Documents();
+        private boolean finished;
+
+        public void indexTask(UUID projectId, UUID taskId, String title, String description) {
+            documents.indexTask(projectId, taskId, title, description);
+        }
+
+        public void indexComment(UUID taskId, UUID commentId, String content) {
+            documents.indexComment(taskId, commentId, content);
+        }
+
+        // Reaplica as escritas anotadas e passa a atender as buscas com o conteúdo novo
+        public int publish() {
+            finished = true;
+            return TaskSearchIndex.this.publish(documents);
+        }
+
+        // Descarta a reconstrução; o índice atual continua valendo
+        public void abort() {
+            if (!finished) {
+                finished = true;
+                TaskSearchIndex.this.abort();
+            }
+        }
+    }
+
+    private static final class Documents {
+
+        private final Map<UUID, ProjectIndex> projects = new ConcurrentHashMap<>();
+        // Permite indexar comentários conhecendo apenas a tarefa
+        private final Map<UUID, UUID> projectByTask = new ConcurrentHashMap<>();
+
+        void indexTask(UUID projectId, UUID taskId, String title, String description) {
+            projectByTask.put(taskId, projectId);
+            projects.computeIfAbsent(projectId, id -> new ProjectIndex()).putTask(taskId, title, description);
+        }
+
+        void removeTask(UUID projectId, UUID taskId) {
+            projectByTask.remove(taskId);
+            ProjectIndex index = projects.get(projectId);
+            if (index != null) {
+                index.removeTask(taskId);
+            }
+        }
+
+        void indexComment(UUID taskId, UUID commentId, String content) {
+            ProjectIndex index = projectIndexOf(taskId);
+            if (index != null) {
+                index.putComment(taskId, commentId, content);
+            }
+        }
+
+        void removeComment(UUID taskId, UUID commentId) {
+            ProjectIndex index = projectIndexOf(taskId);
+            if (index != null) {
+                index.removeComment(taskId, commentId);
+            }
+        }
+
+        private ProjectIndex projectIndexOf(UUID taskId) {
+            UUID projectId = projectByTask.get(taskId);
+            return projectId != null ? projects.get(projectId) : null;
+        }
+    }
+
+    public record SearchResult(List<TaskSearchHit> hits, int total) {
+    }
+}
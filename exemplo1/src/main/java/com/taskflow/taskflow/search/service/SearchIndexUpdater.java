@@ -0,0 +1,41 @@
+package com.taskflow.taskflow.search.service;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.event.CommentEvent;
+import com.taskflow.taskflow.search.index.TaskSearchIndex;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantém o índice de busca em dia com as escritas, aplicando cada mudança só depois do commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexUpdater {
+
+    private final TaskSearchIndex searchIndex;
+
+    @TransactionalEventListener
+    public void onTaskEvent(TaskEvent event) {
+        TaskResponse task = event.task();
+        switch (event.type()) {
+            case CREATED, UPDATED -> searchIndex.indexTask(event.projectId(), task.id(), task.title(), task.description());
+            case DELETED -> searchIndex.removeTask(event.projectId(), task.id());
+            case STATUS_CHANGED -> {
+                // O texto indexado não muda
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        CommentResponse comment = event.comment();
+        switch (event.type()) {
+            case ADDED, UPDATED -> searchIndex.indexComment(comment.taskId(), comment.id(), comment.content());
+            case DELETED -> searchIndex.removeComment(comment.taskId(), comment.id());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskflow.taskflow.search.service;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.repository.CommentRepository;
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.search.dto.TaskSearchPage;
+import com.taskflow.taskflow.search.index.TaskSearchIndex;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskSearchIndex searchIndex;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+
+    public TaskSearchPage searchTasks(UUID projectId, String query, int page, int size, UserPrincipal currentUser) {
+        // 1. Verificar se o usuário é membro do projeto
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        int pageSize = CursorPage.clampSize(size, MAX_PAGE_SIZE);
+        int offset;
+        try {
+            offset = Math.multiplyExact(page, pageSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page is too large");
+        }
+
+        // 2. Consultar o índice em memória; o banco não é acessado
+        TaskSearchIndex.SearchResult result = searchIndex.search(projectId, query, offset, pageSize);
+        return new TaskSearchPage(result.hits(), result.total(), page, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public int rebuildIndex() {
+        // O índice atual segue atendendo enquanto o novo é montado; a troca reaplica as escritas do intervalo
+        TaskSearchIndex.Rebuild rebuild = searchIndex.beginRebuild();
+        try {
+            // Tarefas primeiro: os comentários são anexados a documentos já existentes
+            try (Stream<TaskResponse> tasks = taskRepository.streamAllTasks()) {
+                tasks.forEach(task -> rebuild.indexTask(task.projectId(), task.id(), task.title(), task.description()));
+            }
+            try (Stream<CommentResponse> comments = commentRepository.streamAllComments()) {
+                comments.forEach(comment -> rebuild.indexComment(comment.taskId(), comment.id(), comment.content()));
+            }
+        } catch (RuntimeException | Error e) {
+            rebuild.abort();
+            throw e;
+        }
+        return rebuild.publish();
+    }
+}
@@ -4,7 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,11 +17,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final boolean principalFromToken;
+
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            UserSnapshotCache userSnapshotCache,
+            @Value("${taskflow.security.principal-source:token}") String principalSource) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.userSnapshotCache = userSnapshotCache;
+        this.principalFromToken = "token".equalsIgnoreCase(principalSource);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -39,11 +51,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        VerifiedToken token = jwtService.verify(jwt);
+        userEmail = token.subject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails = loadUser(token);
+            if (userDetails != null && userDetails.isEnabled() && jwtService.isTokenValid(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -57,4 +70,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetails loadUser(VerifiedToken token) {
+        // Tokens antigos sem o claim userId continuam passando pelo UserDetailsService
+        if (!principalFromToken || token.userId() == null) {
+            return this.userDetailsService.loadUserByUsername(token.subject());
+        }
+        // Papel e status vêm do snapshot, não do token, para que alterações do admin valham na hora
+        return userSnapshotCache.get(token.userId())
+                .filter(snapshot -> snapshot.email().equals(token.subject()))
+                .map(snapshot -> new UserPrincipal(snapshot.toUser()))
+                .orElse(null);
+    }
+}
@@ -1,57 +1,93 @@
 package com.taskflow.taskflow.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.taskflow.taskflow.user.model.Usuario;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Long expiration;
+    private final Clock clock;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    // Chave e parser são imutáveis e thread-safe: montados uma única vez
+    private final Key signingKey;
+    private final JwtParser parser;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, io.jsonwebtoken.Claims::getSubject);
+    // Tokens já verificados, mantidos até expirarem (null quando desabilitado)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JwtService(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") Long expiration,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
+        this(secret, expiration, verifiedCacheSize, Clock.systemUTC());
     }
 
-    public <T> T extractClaim(String token, Function<io.jsonwebtoken.Claims, T> claimsResolver) {
-        final io.jsonwebtoken.Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    JwtService(String secret, Long expiration, long verifiedCacheSize, Clock clock) {
+        this.expiration = expiration;
+        this.clock = clock;
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
     }
 
-    private io.jsonwebtoken.Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifica assinatura e expiração com um único parse. Lança {@link io.jsonwebtoken.JwtException}
+     * para tokens inválidos ou expirados, como o parser do jjwt.
+     */
+    public VerifiedToken verify(String token) {
+        if (verifiedTokens != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(token);
+            if (cached != null && !cached.isExpiredAt(clock.instant())) {
+                return cached;
+            }
+        }
+
+        VerifiedToken verified = VerifiedToken.fromClaims(parser.parseClaimsJws(token).getBody());
+        if (verifiedTokens != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
     }
 
-    public boolean isTokenValid(String token, org.springframework.security.core.userdetails.UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, io.jsonwebtoken.Claims::getExpiration);
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpiredAt(clock.instant());
     }
 
     public String generateToken(Usuario user) {
@@ -62,14 +98,30 @@ public class JwtService {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(user.getEmail())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(clock.millis()))
+                .setExpiration(new Date(clock.millis() + expiration * 1000))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            if (verified.expiresAt() == null) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.taskflow.taskflow.security;
 
+import com.taskflow.taskflow.user.model.UserStatus;
 import com.taskflow.taskflow.user.model.Usuario;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -57,6 +58,6 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return user.getStatus() != UserStatus.INACTIVE;
     }
 }
@@ -0,0 +1,31 @@
+package com.taskflow.taskflow.security;
+
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.UserStatus;
+import com.taskflow.taskflow.user.model.Usuario;
+
+import java.util.UUID;
+
+/**
+ * Dados mínimos do usuário necessários para autenticar uma requisição.
+ */
+public record UserSnapshot(
+        UUID id,
+        String email,
+        UserRole role,
+        UserStatus status
+) {
+    public static UserSnapshot fromEntity(Usuario user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getRole(), user.getStatus());
+    }
+
+    // Entidade transiente (sem senha) usada apenas para montar o UserPrincipal
+    public Usuario toUser() {
+        Usuario user = new Usuario();
+        user.setId(id);
+        user.setEmail(email);
+        user.setRole(role);
+        user.setStatus(status);
+        return user;
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflow.taskflow.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.taskflow.core.cache.SingleFlightCache;
+import com.taskflow.taskflow.core.transaction.TransactionCallbacks;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Snapshots de usuário por id usados pelo filtro JWT para evitar um SELECT por requisição.
+ * Quem altera papel ou status do usuário deve chamar {@link #invalidate(UUID)}; o TTL
+ * limita quanto tempo outra instância pode enxergar um snapshot antigo.
+ */
+@Component
+public class UserSnapshotCache implements MeterBinder {
+
+    private final UsuarioRepository usuarioRepository;
+    private final SingleFlightCache<UUID, Optional<UserSnapshot>> cache;
+
+    public UserSnapshotCache(
+            UsuarioRepository usuarioRepository,
+            @Value("${taskflow.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${taskflow.user-cache.ttl:5m}") Duration ttl) {
+        this.usuarioRepository = usuarioRepository;
+        this.cache = SingleFlightCache.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+    }
+
+    public Optional<UserSnapshot> get(UUID userId) {
+        return cache.get(userId, id -> usuarioRepository.findById(id).map(UserSnapshot::fromEntity));
+    }
+
+    public void invalidate(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Registrado pelo Actuator como qualquer MeterBinder do contexto
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "user-snapshot");
+    }
+}
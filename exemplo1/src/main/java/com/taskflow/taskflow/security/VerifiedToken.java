@@ -0,0 +1,32 @@
+package com.taskflow.taskflow.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Visão imutável de um JWT cuja assinatura já foi verificada.
+ */
+public record VerifiedToken(
+        String subject,
+        UUID userId,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    static VerifiedToken fromClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get("role", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
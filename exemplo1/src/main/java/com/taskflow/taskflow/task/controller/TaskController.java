@@ -1,17 +1,31 @@
 package com.taskflow.taskflow.task.controller;
 
+import com.taskflow.taskflow.core.pagination.CursorPage;
 import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.BulkTaskResponse;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateRequest;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateResponse;
+import com.taskflow.taskflow.task.dto.TaskExportFormat;
 import com.taskflow.taskflow.task.dto.TaskRequest;
 import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.dto.TaskStatusTransitionRequest;
+import com.taskflow.taskflow.task.service.TaskBulkService;
+import com.taskflow.taskflow.task.service.TaskExportService;
 import com.taskflow.taskflow.task.service.TaskService;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,9 +40,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 @RequiredArgsConstructor
 public class TaskController {
 
+    // Sem no-store (padrão do Spring Security): o navegador guarda a lista e revalida com If-None-Match
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @Autowired
     TaskService taskService;
 
+    @Autowired
+    TaskBulkService taskBulkService;
+
+    @Autowired
+    TaskExportService taskExportService;
+
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskResponse> createTask(
             @PathVariable UUID projectId,
@@ -38,14 +61,88 @@ public class TaskController {
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
 
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<BulkTaskResponse> createTasks(
+            @PathVariable UUID projectId,
+            @RequestBody List<TaskRequest> taskRequests,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        BulkTaskResponse result = taskBulkService.createTasks(projectId, taskRequests, currentUser);
+        return ResponseEntity.ok(result);
+    }
+
+    // Mudança de status ou de responsável em várias tarefas; o resultado de cada id vem na resposta
+    @PatchMapping("/tasks/bulk")
+    public ResponseEntity<BulkTaskUpdateResponse> updateTasks(
+            @Valid @RequestBody BulkTaskUpdateRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        BulkTaskUpdateResponse result = taskBulkService.updateTasks(request, currentUser);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<List<TaskResponse>> getTasksByProject(
             @PathVariable UUID projectId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) UUID assigneeId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        // If-None-Match com a versão atual do projeto responde 304 sem consultar as tarefas
+        // (checkNotModified já grava o ETag na resposta)
+        String eTag = taskService.getTasksETag(projectId, currentUser, "list", status, assigneeId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(LIST_CACHE_CONTROL).build();
+        }
         List<TaskResponse> tasks = taskService.getTasksByProject(projectId, status, assigneeId, currentUser);
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL).body(tasks);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/page")
+    public ResponseEntity<CursorPage<TaskResponse>> getTasksPageByProject(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String eTag = taskService.getTasksETag(projectId, currentUser, "page", status, assigneeId, cursor, size);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(LIST_CACHE_CONTROL).build();
+        }
+        CursorPage<TaskResponse> page = taskService.getTasksPageByProject(projectId, status, assigneeId, cursor, size, currentUser);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL).body(page);
+    }
+
+    // Tarefas atribuídas ao usuário em todos os projetos; com sort=dueDate as tarefas sem prazo vêm por último
+    @GetMapping("/mine")
+    public ResponseEntity<CursorPage<TaskResponse>> getMyTasks(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Instant dueFrom,
+            @RequestParam(required = false) Instant dueTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        CursorPage<TaskResponse> page = taskService.getMyTasks(status, dueFrom, dueTo, sort, cursor, size, currentUser);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        StreamingResponseBody body = taskExportService.exportTasks(projectId, status, assigneeId, exportFormat, currentUser);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks-" + projectId + "." + exportFormat.extension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 
     @PatchMapping("/tasks/{taskId}/status")
@@ -57,6 +154,15 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    @PostMapping("/tasks/{taskId}/status/transition")
+    public ResponseEntity<TaskResponse> transitionTaskStatus(
+            @PathVariable UUID taskId,
+            @Valid @RequestBody TaskStatusTransitionRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        TaskResponse updatedTask = taskService.transitionTaskStatus(taskId, request.from(), request.to(), currentUser);
+        return ResponseEntity.ok(updatedTask);
+    }
+
     @PutMapping("/tasks/{taskId}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable UUID taskId,
@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+public record BulkTaskResponse(
+        int created,
+        int failed,
+        List<BulkTaskResult> results
+) {}
@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.task.dto;
+
+public record BulkTaskResult(
+        int index,
+        TaskResponse task,
+        String error
+) {
+    public static BulkTaskResult created(int index, TaskResponse task) {
+        return new BulkTaskResult(index, task, null);
+    }
+
+    public static BulkTaskResult failed(int index, String error) {
+        return new BulkTaskResult(index, null, error);
+    }
+}
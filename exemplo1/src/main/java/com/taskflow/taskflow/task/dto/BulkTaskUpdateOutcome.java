@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.task.dto;
+
+public enum BulkTaskUpdateOutcome {
+    UPDATED,
+    // A tarefa já tinha o valor pedido; nada foi escrito
+    UNCHANGED,
+    NOT_FOUND,
+    ACCESS_DENIED
+}
@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.task.dto;
+
+import com.taskflow.taskflow.task.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+// Informe status ou assigneeId (não os dois): todas as tarefas recebem o mesmo valor
+public record BulkTaskUpdateRequest(
+        @NotEmpty
+        List<@NotNull UUID> taskIds,
+        TaskStatus status,
+        UUID assigneeId
+) {}
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+public record BulkTaskUpdateResponse(
+        int updated,
+        int unchanged,
+        int failed,
+        List<BulkTaskUpdateResult> results
+) {}
@@ -0,0 +1,26 @@
+package com.taskflow.taskflow.task.dto;
+
+public enum MyTasksSort {
+
+    // Por prazo, com as tarefas sem prazo no fim
+    DUE_DATE("dueDate"),
+    CREATED_AT("createdAt");
+
+    private final String param;
+
+    MyTasksSort(String param) {
+        this.param = param;
+    }
+
+    public static MyTasksSort from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return CREATED_AT;
+        }
+        for (MyTasksSort value : values()) {
+            if (value.param.equalsIgnoreCase(sort) || value.name().equalsIgnoreCase(sort)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid sort value: " + sort);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.task.dto;
+
+import com.taskflow.taskflow.task.model.Task;
+
+/**
+ * Tarefa carregada junto com o resultado da verificação de membro do usuário no projeto,
+ * resolvidos na mesma consulta.
+ */
+public record TaskAccess(
+        Task task,
+        boolean member
+) {
+}
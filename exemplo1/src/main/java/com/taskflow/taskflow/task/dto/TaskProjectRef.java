@@ -0,0 +1,8 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.UUID;
+
+public record TaskProjectRef(
+        UUID taskId,
+        UUID projectId
+) {}
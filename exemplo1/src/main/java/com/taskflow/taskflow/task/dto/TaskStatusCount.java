@@ -0,0 +1,8 @@
+package com.taskflow.taskflow.task.dto;
+
+import com.taskflow.taskflow.task.model.TaskStatus;
+
+public record TaskStatusCount(
+        TaskStatus status,
+        Long count
+) {}
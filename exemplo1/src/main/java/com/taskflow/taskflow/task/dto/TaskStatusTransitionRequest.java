@@ -0,0 +1,12 @@
+package com.taskflow.taskflow.task.dto;
+
+import com.taskflow.taskflow.task.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+// Move a tarefa de "from" para "to"; falha com 409 se o status atual não for "from"
+public record TaskStatusTransitionRequest(
+    @NotNull
+    TaskStatus from,
+    @NotNull
+    TaskStatus to
+) {}
@@ -0,0 +1,31 @@
+package com.taskflow.taskflow.task.event;
+
+import com.taskflow.taskflow.core.event.ProjectEvent;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Mudança em uma tarefa; {@code task} é o estado após a alteração (ou o último estado, em DELETED).
+ */
+public record TaskEvent(
+        TaskEventType type,
+        UUID projectId,
+        TaskResponse task
+) implements ProjectEvent {
+
+    @Override
+    public String eventType() {
+        return "task." + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public UUID entityId() {
+        return task.id();
+    }
+
+    public static TaskEvent of(TaskEventType type, TaskResponse task) {
+        return new TaskEvent(type, task.projectId(), task);
+    }
+}
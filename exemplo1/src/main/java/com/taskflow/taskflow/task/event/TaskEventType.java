@@ -0,0 +1,8 @@
+package com.taskflow.taskflow.task.event;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -1,5 +1,6 @@
 package com.taskflow.taskflow.task.model;
 
+import com.taskflow.taskflow.core.id.GeneratedUuidV7;
 import com.taskflow.taskflow.project.model.Project;
 import com.taskflow.taskflow.user.model.Usuario;
 import jakarta.persistence.*;
@@ -12,7 +13,10 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_assignee_status_due", columnList = "assignee_id, status, due_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +24,7 @@ import java.util.UUID;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -46,6 +50,11 @@ public class Task {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    // Escritas concorrentes na mesma tarefa falham em vez de sobrescrever (409)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @PrePersist
     public void prePersist() {
         createdAt = Instant.now();
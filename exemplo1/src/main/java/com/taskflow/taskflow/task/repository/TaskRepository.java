@@ -1,23 +1,80 @@
 package com.taskflow.taskflow.task.repository;
 
+import com.taskflow.taskflow.task.dto.TaskAccess;
+import com.taskflow.taskflow.task.dto.TaskProjectRef;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.dto.TaskStatusCount;
 import com.taskflow.taskflow.task.model.Task;
 import com.taskflow.taskflow.task.model.TaskStatus;
 import com.taskflow.taskflow.user.model.Usuario;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskStreamRepository {
     List<Task> findAllByProjectId(UUID projectId);
 
+    // Carrega a tarefa e verifica se o usuário é membro do projeto em um único SELECT
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskAccess(t, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM ProjectMember pm " +
+            "WHERE pm.project.id = t.project.id AND pm.user.id = :userId) THEN true ELSE false END) " +
+            "FROM Task t WHERE t.id = :taskId")
+    Optional<TaskAccess> findWithAccessById(@Param("taskId") UUID taskId, @Param("userId") UUID userId);
+
+    // Compare-and-set: só muda se o status atual for o esperado e o usuário for membro do projeto
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :to, t.version = t.version + 1 " +
+            "WHERE t.id = :taskId AND t.status = :from " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = t.project.id AND pm.user.id = :userId)")
+    int compareAndSetStatus(
+            @Param("taskId") UUID taskId,
+            @Param("from") TaskStatus from,
+            @Param("to") TaskStatus to,
+            @Param("userId") UUID userId
+    );
+
+    // Operações em massa: estado atual travado até o commit, para que os deltas dos contadores
+    // sejam calculados sobre o que o UPDATE vai de fato alterar. t.assignee.id usa a FK, sem join
+    // Projeto de cada tarefa, sem trava: autoriza o lote antes do SELECT ... FOR UPDATE
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskProjectRef(t.id, t.project.id) FROM Task t WHERE t.id IN :taskIds")
+    List<TaskProjectRef> findProjectRefsByIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.project.id, t.assignee.id, t.dueDate, t.createdAt) " +
+            "FROM Task t WHERE t.id IN :taskIds ORDER BY t.id")
+    List<TaskResponse> lockAllForUpdate(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id IN :taskIds")
+    int updateStatusByIds(@Param("taskIds") Collection<UUID> taskIds, @Param("status") TaskStatus status);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.version = t.version + 1 WHERE t.id IN :taskIds")
+    int updateAssigneeByIds(@Param("taskIds") Collection<UUID> taskIds, @Param("assignee") Usuario assignee);
+
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :taskId")
+    Optional<UUID> findProjectIdById(@Param("taskId") UUID taskId);
+
     long countByStatusAndAssignee(TaskStatus status, Usuario assignee);
 
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskStatusCount(t.status, COUNT(t)) " +
+            "FROM Task t WHERE t.assignee.id = :assigneeId GROUP BY t.status")
+    List<TaskStatusCount> countByAssigneeGroupedByStatus(@Param("assigneeId") UUID assigneeId);
+
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId " +
             "AND (:status IS NULL OR t.status = :status) " +
             "AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId)")
@@ -26,4 +83,74 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("status") TaskStatus status,
             @Param("assigneeId") UUID assigneeId
     );
+
+    // Paginação por keyset em (created_at, id), coberta por idx_tasks_project_created
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId) " +
+            "ORDER BY t.createdAt, t.id")
+    List<Task> findFirstTasksPage(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            Limit limit
+    );
+
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId) " +
+            "AND (t.createdAt > :afterCreatedAt OR (t.createdAt = :afterCreatedAt AND t.id > :afterId)) " +
+            "ORDER BY t.createdAt, t.id")
+    List<Task> findTasksPageAfter(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    // "Minhas tarefas": uma consulta para todos os projetos em que o usuário é membro,
+    // apoiada em idx_tasks_assignee_status_due; keyset em (due_date, id) ou (created_at, id).
+    // Tarefas sem prazo vêm por último; o cursor delas tem instante nulo e segue só pelo id
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.project.id, t.assignee.id, t.dueDate, t.createdAt) " +
+            "FROM Task t WHERE t.assignee.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom) " +
+            "AND (:dueTo IS NULL OR t.dueDate < :dueTo) " +
+            "AND (:afterId IS NULL " +
+            "OR (:afterInstant IS NOT NULL AND (t.dueDate IS NULL OR t.dueDate > :afterInstant " +
+            "OR (t.dueDate = :afterInstant AND t.id > :afterId))) " +
+            "OR (:afterInstant IS NULL AND t.dueDate IS NULL AND t.id > :afterId)) " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = t.project.id AND pm.user.id = :userId) " +
+            "ORDER BY CASE WHEN t.dueDate IS NULL THEN 1 ELSE 0 END, t.dueDate, t.id")
+    List<TaskResponse> findMyTasksByDueDate(
+            @Param("userId") UUID userId,
+            @Param("status") TaskStatus status,
+            @Param("dueFrom") Instant dueFrom,
+            @Param("dueTo") Instant dueTo,
+            @Param("afterInstant") Instant afterInstant,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    @Query("SELECT new com.taskflow.taskflow.task.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.project.id, t.assignee.id, t.dueDate, t.createdAt) " +
+            "FROM Task t WHERE t.assignee.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom) " +
+            "AND (:dueTo IS NULL OR t.dueDate < :dueTo) " +
+            "AND (:afterId IS NULL OR t.createdAt > :afterInstant OR (t.createdAt = :afterInstant AND t.id > :afterId)) " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = t.project.id AND pm.user.id = :userId) " +
+            "ORDER BY t.createdAt, t.id")
+    List<TaskResponse> findMyTasksByCreatedAt(
+            @Param("userId") UUID userId,
+            @Param("status") TaskStatus status,
+            @Param("dueFrom") Instant dueFrom,
+            @Param("dueTo") Instant dueTo,
+            @Param("afterInstant") Instant afterInstant,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
 }
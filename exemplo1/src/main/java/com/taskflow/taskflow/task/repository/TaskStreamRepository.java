@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.task.repository;
+
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Consultas lidas em streaming; o fetch size depende do banco (ver StreamingQueries)
+public interface TaskStreamRepository {
+
+    Stream<TaskResponse> streamTasksForExport(UUID projectId, TaskStatus status, UUID assigneeId);
+
+    Stream<TaskResponse> streamAllTasks();
+}
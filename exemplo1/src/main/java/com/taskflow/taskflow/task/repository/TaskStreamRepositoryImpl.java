@@ -0,0 +1,40 @@
+package com.taskflow.taskflow.task.repository;
+
+import com.taskflow.taskflow.core.sql.StreamingQueries;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class TaskStreamRepositoryImpl implements TaskStreamRepository {
+
+    private static final String SELECT_TASK_RESPONSE = "SELECT new com.taskflow.taskflow.task.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.project.id, a.id, t.dueDate, t.createdAt) " +
+            "FROM Task t LEFT JOIN t.assignee a";
+
+    private final EntityManager entityManager;
+    private final StreamingQueries streamingQueries;
+
+    // Exportação: projeção direto no DTO (nada fica no contexto de persistência) lida em streaming
+    @Override
+    public Stream<TaskResponse> streamTasksForExport(UUID projectId, TaskStatus status, UUID assigneeId) {
+        return streamingQueries.stream(entityManager.createQuery(SELECT_TASK_RESPONSE +
+                        " WHERE t.project.id = :projectId " +
+                        "AND (:status IS NULL OR t.status = :status) " +
+                        "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+                        "ORDER BY t.createdAt, t.id", TaskResponse.class)
+                .setParameter("projectId", projectId)
+                .setParameter("status", status)
+                .setParameter("assigneeId", assigneeId));
+    }
+
+    // Reconstrução do índice de busca: mesma leitura da exportação, sem filtros
+    @Override
+    public Stream<TaskResponse> streamAllTasks() {
+        return streamingQueries.stream(entityManager.createQuery(SELECT_TASK_RESPONSE, TaskResponse.class));
+    }
+}
@@ -0,0 +1,273 @@
+package com.taskflow.taskflow.task.service;
+
+import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
+import com.taskflow.taskflow.dashboard.service.TaskCounterService;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.BulkTaskResponse;
+import com.taskflow.taskflow.task.dto.BulkTaskResult;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateOutcome;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateRequest;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateResponse;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateResult;
+import com.taskflow.taskflow.task.dto.TaskRequest;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.Usuario;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskBulkService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final TaskCounterService taskCounterService;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxItems;
+
+    public TaskBulkService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            UsuarioRepository usuarioRepository,
+            ProjectMembershipCache projectMembershipCache,
+            TaskCounterService taskCounterService,
+            EntityManager entityManager,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${taskflow.tasks.bulk.batch-size:500}") int batchSize,
+            @Value("${taskflow.tasks.bulk.max-items:10000}") int maxItems) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.projectMembershipCache = projectMembershipCache;
+        this.taskCounterService = taskCounterService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    @Transactional
+    public BulkTaskResponse createTasks(UUID projectId, List<TaskRequest> requests, UserPrincipal currentUser) {
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("A bulk request accepts at most " + maxItems + " tasks");
+        }
+
+        // 1. Verificar uma única vez se o usuário é membro do projeto
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+        // 2. Validar os itens e resolver todos os responsáveis com um único IN
+        BulkTaskResult[] results = new BulkTaskResult[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BulkTaskResult.failed(i, error);
+            }
+        }
+        Set<UUID> assigneeIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] == null) {
+                assigneeIds.add(requests.get(i).assigneeId());
+            }
+        }
+        Map<UUID, Usuario> assignees = usuarioRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+
+        // 3. Inserir em lotes JDBC, limpando o contexto a cada lote para manter a memória estável
+        Map<UUID, Long> createdPerAssignee = new HashMap<>();
+        int pending = 0;
+        int created = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            TaskRequest request = requests.get(i);
+            Usuario assignee = assignees.get(request.assigneeId());
+            if (assignee == null) {
+                results[i] = BulkTaskResult.failed(i, "Assignee not found");
+                continue;
+            }
+
+            Task newTask = new Task();
+            newTask.setTitle(request.title());
+            newTask.setDescription(request.description());
+            newTask.setProject(project);
+            newTask.setAssignee(assignee);
+            newTask.setDueDate(request.dueDate());
+            newTask.setStatus(TaskStatus.TODO);
+            entityManager.persist(newTask);
+
+            results[i] = BulkTaskResult.created(i, TaskResponse.fromEntity(newTask));
+            createdPerAssignee.merge(assignee.getId(), 1L, Long::sum);
+            created++;
+            if (++pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        createdPerAssignee.forEach((assigneeId, count) ->
+                taskCounterService.tasksAdded(assigneeId, TaskStatus.TODO, count));
+        for (BulkTaskResult result : results) {
+            if (result.task() != null) {
+                eventPublisher.publishEvent(TaskEvent.of(TaskEventType.CREATED, result.task()));
+            }
+        }
+
+        return new BulkTaskResponse(created, requests.size() - created, Arrays.asList(results));
+    }
+
+    @Transactional
+    public BulkTaskUpdateResponse updateTasks(BulkTaskUpdateRequest request, UserPrincipal currentUser) {
+        TaskStatus status = request.status();
+        if ((status == null) == (request.assigneeId() == null)) {
+            throw new IllegalArgumentException("Specify either status or assigneeId");
+        }
+        List<UUID> taskIds = request.taskIds().stream().distinct().toList();
+        if (taskIds.size() > maxItems) {
+            throw new IllegalArgumentException("A bulk request accepts at most " + maxItems + " tasks");
+        }
+        Usuario assignee = null;
+        if (request.assigneeId() != null) {
+            assignee = usuarioRepository.findById(request.assigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
+        }
+
+        // 1. Autorizar uma vez por projeto distinto, lendo só o projeto de cada tarefa (sem trava)
+        Map<UUID, UUID> projectOf = new HashMap<>();
+        for (List<UUID> chunk : chunks(taskIds)) {
+            taskRepository.findProjectRefsByIds(chunk).forEach(ref -> projectOf.put(ref.taskId(), ref.projectId()));
+        }
+        Map<UUID, Boolean> memberOf = new HashMap<>();
+        for (UUID projectId : new HashSet<>(projectOf.values())) {
+            memberOf.put(projectId, projectMembershipCache.isMember(projectId, currentUser.getId()));
+        }
+
+        // 2. Travar só as tarefas autorizadas, em ordem de id (UUIDv7: a ordem do UUID é a do índice),
+        // para que dois lotes concorrentes com ids em comum travem as linhas na mesma ordem
+        List<UUID> authorizedIds = taskIds.stream()
+                .filter(taskId -> projectOf.containsKey(taskId) && memberOf.get(projectOf.get(taskId)))
+                .sorted()
+                .toList();
+        Map<UUID, TaskResponse> current = new HashMap<>();
+        for (List<UUID> chunk : chunks(authorizedIds)) {
+            taskRepository.lockAllForUpdate(chunk).forEach(task -> current.put(task.id(), task));
+        }
+
+        // 3. Separar o que realmente muda, reportando na ordem do pedido
+        List<BulkTaskUpdateResult> results = new ArrayList<>(taskIds.size());
+        List<TaskResponse> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (UUID taskId : taskIds) {
+            TaskResponse task = current.get(taskId);
+            BulkTaskUpdateOutcome outcome;
+            if (!projectOf.containsKey(taskId)) {
+                outcome = BulkTaskUpdateOutcome.NOT_FOUND;
+            } else if (!memberOf.get(projectOf.get(taskId))) {
+                outcome = BulkTaskUpdateOutcome.ACCESS_DENIED;
+            } else if (task == null) {
+                // Removida entre a leitura e a trava
+                outcome = BulkTaskUpdateOutcome.NOT_FOUND;
+            } else if (status != null ? task.status() == status : request.assigneeId().equals(task.assigneeId())) {
+                outcome = BulkTaskUpdateOutcome.UNCHANGED;
+                unchanged++;
+            } else {
+                outcome = BulkTaskUpdateOutcome.UPDATED;
+                changed.add(task);
+            }
+            results.add(new BulkTaskUpdateResult(taskId, outcome));
+        }
+
+        // 4. UPDATE ... WHERE id IN (...) em lotes
+        for (List<UUID> chunk : chunks(changed.stream().map(TaskResponse::id).toList())) {
+            if (status != null) {
+                taskRepository.updateStatusByIds(chunk, status);
+            } else {
+                taskRepository.updateAssigneeByIds(chunk, assignee);
+            }
+        }
+
+        // 5. Contadores: um delta por (responsável anterior, status) em vez de um por tarefa
+        Map<CounterKey, Long> moved = new HashMap<>();
+        for (TaskResponse task : changed) {
+            moved.merge(new CounterKey(task.assigneeId(), task.status()), 1L, Long::sum);
+        }
+        UUID newAssigneeId = request.assigneeId();
+        moved.forEach((key, count) -> {
+            if (status != null) {
+                taskCounterService.tasksMoved(key.assigneeId(), key.status(), status, count);
+            } else {
+                taskCounterService.tasksReassigned(key.assigneeId(), newAssigneeId, key.status(), count);
+            }
+        });
+
+        TaskEventType eventType = status != null ? TaskEventType.STATUS_CHANGED : TaskEventType.UPDATED;
+        for (TaskResponse task : changed) {
+            TaskResponse updated = new TaskResponse(task.id(), task.title(), task.description(),
+                    status != null ? status : task.status(), task.projectId(),
+                    status != null ? task.assigneeId() : newAssigneeId, task.dueDate(), task.createdAt());
+            eventPublisher.publishEvent(TaskEvent.of(eventType, updated));
+        }
+
+        int failed = taskIds.size() - changed.size() - unchanged;
+        return new BulkTaskUpdateResponse(changed.size(), unchanged, failed, results);
+    }
+
+    private List<List<UUID>> chunks(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            chunks.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private record CounterKey(UUID assigneeId, TaskStatus status) {
+    }
+
+    private String validate(TaskRequest request) {
+        if (request == null) {
+            return "Task cannot be null";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskflow.taskflow.task.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskExportFormat;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,projectId,assigneeId,dueDate,createdAt";
+
+    private final TaskRepository taskRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExportService(
+            TaskRepository taskRepository,
+            ProjectMembershipCache projectMembershipCache,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.projectMembershipCache = projectMembershipCache;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportTasks(UUID projectId, String status, UUID assigneeId,
+                                             TaskExportFormat format, UserPrincipal currentUser) {
+        // 1. Verificar a permissão antes de o response ser confirmado, para ainda poder devolver 403
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+
+        TaskStatus taskStatus = TaskService.parseStatus(status);
+
+        // 2. O corpo roda na thread assíncrona: a transação (e o cursor JDBC) vive só enquanto escreve
+        return out -> readOnlyTransaction.executeWithoutResult(tx -> {
+            try (Stream<TaskResponse> rows = taskRepository.streamTasksForExport(projectId, taskStatus, assigneeId)) {
+                switch (format) {
+                    case NDJSON -> writeNdjson(rows.iterator(), out);
+                    case CSV -> writeCsv(rows.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<TaskResponse> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            boolean first = true;
+            while (rows.hasNext()) {
+                generator.writeObject(rows.next());
+                generator.writeRaw('\n');
+                if (first) {
+                    // Envia a primeira linha imediatamente; depois o buffer do gerador controla os flushes
+                    generator.flush();
+                    first = false;
+                }
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<TaskResponse> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        writer.flush();
+        while (rows.hasNext()) {
+            TaskResponse task = rows.next();
+            writer.write(csv(task.id()));
+            writer.write(',');
+            writer.write(csv(task.title()));
+            writer.write(',');
+            writer.write(csv(task.description()));
+            writer.write(',');
+            writer.write(csv(task.status()));
+            writer.write(',');
+            writer.write(csv(task.projectId()));
+            writer.write(',');
+            writer.write(csv(task.assigneeId()));
+            writer.write(',');
+            writer.write(csv(task.dueDate()));
+            writer.write(',');
+            writer.write(csv(task.createdAt()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskflow.taskflow.task.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.taskflow.core.cache.SingleFlightCache;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listas filtradas do quadro já mapeadas para DTO. A chave inclui a versão do projeto, então
+ * qualquer escrita no projeto faz as entradas antigas pararem de ser lidas sem invalidação
+ * explícita; elas saem pelo limite de peso (W-TinyLFU do Caffeine) ou pelo TTL.
+ * O peso é uma estimativa em bytes, para que poucas listas enormes não ocupem o cache inteiro.
+ */
+@Component
+public class TaskListCache implements MeterBinder {
+
+    // Record, UUIDs, Instants e enum de uma linha, sem contar os textos
+    static final int ROW_OVERHEAD_BYTES = 200;
+
+    private final TaskRepository taskRepository;
+    private final SingleFlightCache<TaskListKey, List<TaskResponse>> cache;
+
+    public TaskListCache(
+            TaskRepository taskRepository,
+            @Value("${taskflow.task-list-cache.maximum-weight:64MB}") DataSize maximumWeight,
+            @Value("${taskflow.task-list-cache.ttl:10m}") Duration ttl) {
+        this.taskRepository = taskRepository;
+        this.cache = SingleFlightCache.build(Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher(TaskListCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats());
+    }
+
+    // Chamadas concorrentes para a mesma chave esperam uma única consulta
+    public List<TaskResponse> get(UUID projectId, TaskStatus status, UUID assigneeId, long projectVersion) {
+        return cache.get(new TaskListKey(projectId, status, assigneeId, projectVersion),
+                key -> taskRepository.findTasksByProjectIdAndFilters(key.projectId(), key.status(), key.assigneeId())
+                        .stream()
+                        .map(TaskResponse::fromEntity)
+                        .toList());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Registrado pelo Actuator como qualquer MeterBinder do contexto
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "task-list");
+    }
+
+    static int weigh(TaskListKey key, List<TaskResponse> tasks) {
+        long bytes = ROW_OVERHEAD_BYTES;
+        for (TaskResponse task : tasks) {
+            bytes += ROW_OVERHEAD_BYTES + length(task.title()) + length(task.description());
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    record TaskListKey(UUID projectId, TaskStatus status, UUID assigneeId, long projectVersion) {
+    }
+}
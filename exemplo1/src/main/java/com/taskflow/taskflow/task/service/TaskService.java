@@ -1,37 +1,56 @@
 package com.taskflow.taskflow.task.service;
 
 import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
-import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.core.pagination.KeysetCursor;
+import com.taskflow.taskflow.dashboard.service.TaskCounterService;
 import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.project.service.ProjectVersionService;
 import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskAccess;
 import com.taskflow.taskflow.task.dto.TaskRequest;
+import com.taskflow.taskflow.task.dto.MyTasksSort;
 import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
 import com.taskflow.taskflow.task.model.Task;
 import com.taskflow.taskflow.task.model.TaskStatus;
 import com.taskflow.taskflow.task.repository.TaskRepository;
 import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskflow.service", histogram = true)
 public class TaskService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UsuarioRepository usuarioRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ProjectVersionService projectVersionService;
+    private final TaskListCache taskListCache;
+    private final TaskCounterService taskCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(UUID projectId, TaskRequest request, UserPrincipal currentUser) {
         // 1. Verificar se o usuário é membro do projeto
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
         if (!isMember) {
             throw new AccessDeniedException("User is not a member of the project");
         }
@@ -52,100 +71,199 @@ public class TaskService {
         newTask.setStatus(TaskStatus.TODO); // Status padrão
 
         Task savedTask = taskRepository.save(newTask);
+        taskCounterService.taskAdded(assignee.getId(), savedTask.getStatus());
+
+        TaskResponse response = TaskResponse.fromEntity(savedTask);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEventType.CREATED, response));
+        return response;
+    }
 
-        return TaskResponse.fromEntity(savedTask);
+    // ETag das listagens de tarefas: só a leitura da versão do projeto, sem a consulta da lista
+    public String getTasksETag(UUID projectId, UserPrincipal currentUser, Object... filters) {
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
+        }
+        return projectVersionService.listETag(projectId, filters);
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByProject(UUID projectId, String status, UUID assigneeId, UserPrincipal currentUser) {
         // 1. Verificar se o usuário é membro do projeto
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
         if (!isMember) {
             throw new AccessDeniedException("User is not a member of the project");
         }
 
         // 2. Converter status de String para Enum
-        TaskStatus taskStatus = null;
-        if (status != null && !status.isBlank()) {
-            try {
-                taskStatus = TaskStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Lançar uma exceção customizada ou de negócio seria o ideal
-                throw new IllegalArgumentException("Invalid status value: " + status);
-            }
+        TaskStatus taskStatus = parseStatus(status);
+
+        // 3. Ler a versão antes da lista: o cache nunca guarda dados anteriores à versão da chave
+        long projectVersion = projectVersionService.currentVersion(projectId);
+
+        // 4. Buscar as tarefas com filtros (já mapeadas para DTO) no cache do quadro
+        return taskListCache.get(projectId, taskStatus, assigneeId, projectVersion);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksPageByProject(UUID projectId, String status, UUID assigneeId,
+                                                          String cursor, int size, UserPrincipal currentUser) {
+        // 1. Verificar se o usuário é membro do projeto
+        boolean isMember = projectMembershipCache.isMember(projectId, currentUser.getId());
+        if (!isMember) {
+            throw new AccessDeniedException("User is not a member of the project");
         }
 
-        // 3. Buscar as tarefas com filtros
-        List<Task> tasks = taskRepository.findTasksByProjectIdAndFilters(projectId, taskStatus, assigneeId);
+        TaskStatus taskStatus = parseStatus(status);
+        int pageSize = CursorPage.clampSize(size, MAX_PAGE_SIZE);
+
+        // 2. Buscar uma linha a mais para saber se existe próxima página
+        Limit limit = Limit.of(pageSize + 1);
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findFirstTasksPage(projectId, taskStatus, assigneeId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            tasks = taskRepository.findTasksPageAfter(projectId, taskStatus, assigneeId, after.instant(), after.id(), limit);
+        }
 
-        // 4. Mapear para DTOs de resposta
-        return tasks.stream()
+        List<TaskResponse> rows = tasks.stream()
                 .map(TaskResponse::fromEntity)
                 .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize, task -> new KeysetCursor(task.createdAt(), task.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getMyTasks(String status, Instant dueFrom, Instant dueTo, String sort,
+                                               String cursor, int size, UserPrincipal currentUser) {
+        TaskStatus taskStatus = parseStatus(status);
+        MyTasksSort order = MyTasksSort.from(sort);
+        int pageSize = CursorPage.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Instant afterInstant = after != null ? after.instant() : null;
+        UUID afterId = after != null ? after.id() : null;
+
+        // Uma única consulta para todos os projetos (a pertinência ao projeto vai no EXISTS)
+        Limit limit = Limit.of(pageSize + 1);
+        if (order == MyTasksSort.DUE_DATE) {
+            List<TaskResponse> rows = taskRepository.findMyTasksByDueDate(currentUser.getId(), taskStatus,
+                    dueFrom, dueTo, afterInstant, afterId, limit);
+            return CursorPage.of(rows, pageSize, task -> new KeysetCursor(task.dueDate(), task.id()));
+        }
+        List<TaskResponse> rows = taskRepository.findMyTasksByCreatedAt(currentUser.getId(), taskStatus,
+                dueFrom, dueTo, afterInstant, afterId, limit);
+        return CursorPage.of(rows, pageSize, task -> new KeysetCursor(task.createdAt(), task.id()));
     }
 
     @Transactional
     public TaskResponse updateTaskStatus(UUID taskId, TaskStatus newStatus, UserPrincipal currentUser) {
-        // 1. Buscar a tarefa
-        Task task = taskRepository.findById(taskId)
+        // 1. Buscar a tarefa e verificar, no mesmo SELECT, se o usuário é membro do projeto
+        TaskAccess access = taskRepository.findWithAccessById(taskId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        // 2. Verificar se o usuário é membro do projeto da tarefa
-        UUID projectId = task.getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
-        if (!isMember) {
+        if (!access.member()) {
             throw new AccessDeniedException("User is not a member of the project");
         }
+        Task task = access.task();
 
-        // 3. Atualizar o status e salvar
+        // 2. Atualizar o status e salvar
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(newStatus);
         Task updatedTask = taskRepository.save(task);
+        if (task.getAssignee() != null) {
+            taskCounterService.taskMoved(task.getAssignee().getId(), previousStatus, newStatus);
+        }
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEventType.STATUS_CHANGED, response));
+        return response;
     }
 
     @Transactional
-    public TaskResponse updateTask(UUID taskId, TaskRequest request, UserPrincipal currentUser) {
-        // 1. Buscar a tarefa
+    public TaskResponse transitionTaskStatus(UUID taskId, TaskStatus from, TaskStatus to, UserPrincipal currentUser) {
+        // 1. Um único UPDATE confere o status esperado e a permissão; sem leitura antes da escrita
+        int updated = taskRepository.compareAndSetStatus(taskId, from, to, currentUser.getId());
+        if (updated == 0) {
+            throw transitionFailure(taskId, from, currentUser);
+        }
+
+        // 2. Recarregar a tarefa (linha já travada pelo UPDATE) para contadores, evento e resposta
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (task.getAssignee() != null) {
+            taskCounterService.taskMoved(task.getAssignee().getId(), from, to);
+        }
 
-        // 2. Verificar se o usuário é membro do projeto da tarefa
-        UUID projectId = task.getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
-        if (!isMember) {
+        TaskResponse response = TaskResponse.fromEntity(task);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEventType.STATUS_CHANGED, response));
+        return response;
+    }
+
+    @Transactional
+    public TaskResponse updateTask(UUID taskId, TaskRequest request, UserPrincipal currentUser) {
+        // 1. Buscar a tarefa e verificar, no mesmo SELECT, se o usuário é membro do projeto
+        TaskAccess access = taskRepository.findWithAccessById(taskId, currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (!access.member()) {
             throw new AccessDeniedException("User is not a member of the project");
         }
+        Task task = access.task();
 
-        // 3. Buscar o novo responsável (assignee)
+        // 2. Buscar o novo responsável (assignee)
         var assignee = usuarioRepository.findById(request.assigneeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
 
-        // 4. Atualizar os campos da tarefa
+        // 3. Atualizar os campos da tarefa
+        UUID previousAssigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
         task.setTitle(request.title());
         task.setDescription(request.description());
         task.setDueDate(request.dueDate());
         task.setAssignee(assignee);
 
         Task updatedTask = taskRepository.save(task);
+        taskCounterService.taskReassigned(previousAssigneeId, assignee.getId(), task.getStatus());
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEventType.UPDATED, response));
+        return response;
     }
 
     @Transactional
     public void deleteTask(UUID taskId, UserPrincipal currentUser) {
-        // 1. Buscar a tarefa
-        Task task = taskRepository.findById(taskId)
+        // 1. Buscar a tarefa e verificar, no mesmo SELECT, se o usuário é membro do projeto
+        TaskAccess access = taskRepository.findWithAccessById(taskId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        // 2. Verificar se o usuário é membro do projeto da tarefa
-        UUID projectId = task.getProject().getId();
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId());
-        if (!isMember) {
+        if (!access.member()) {
             throw new AccessDeniedException("User is not a member of the project");
         }
+        Task task = access.task();
+
+        // 2. Excluir a tarefa
+        taskRepository.delete(task);
+        if (task.getAssignee() != null) {
+            taskCounterService.taskRemoved(task.getAssignee().getId(), task.getStatus());
+        }
+        eventPublisher.publishEvent(TaskEvent.of(TaskEventType.DELETED, TaskResponse.fromEntity(task)));
+    }
 
-        // 3. Excluir a tarefa
-        taskRepository.deleteById(taskId);
+    // Só no caminho de falha: descobre se a tarefa não existe, se falta permissão ou se o status mudou
+    private RuntimeException transitionFailure(UUID taskId, TaskStatus expected, UserPrincipal currentUser) {
+        TaskAccess access = taskRepository.findWithAccessById(taskId, currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (!access.member()) {
+            return new AccessDeniedException("User is not a member of the project");
+        }
+        return new IllegalStateException("Task status is " + access.task().getStatus() + ", expected " + expected);
+    }
+
+    static TaskStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            // Lançar uma exceção customizada ou de negócio seria o ideal
+            throw new IllegalArgumentException("Invalid status value: " + status);
+        }
     }
 }
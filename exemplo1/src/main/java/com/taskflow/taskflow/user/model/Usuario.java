@@ -1,5 +1,6 @@
 package com.taskflow.taskflow.user.model;
 
+import com.taskflow.taskflow.core.id.GeneratedUuidV7;
 import com.taskflow.taskflow.user.model.UserStatus;
 import jakarta.persistence.*;
 import java.time.Instant;
@@ -8,9 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +22,7 @@ import lombok.Setter;
 public class Usuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -44,5 +48,8 @@ public class Usuario {
     @PrePersist
     public void prePersist() {
         createdAt = Instant.now();
+        if (status == null) {
+            status = UserStatus.ACTIVE;
+        }
     }
 }
@@ -2,7 +2,10 @@ package com.taskflow.taskflow.user.repository;
 
 import com.taskflow.taskflow.user.model.UserRole;
 import com.taskflow.taskflow.user.model.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,6 +13,8 @@ import java.util.UUID;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
+    // Login e autenticação: resultado no query cache, a entidade vem do cache L2
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Usuario> findByEmail(String email);
 
     Optional<Usuario> findFirstByRole(UserRole admin);
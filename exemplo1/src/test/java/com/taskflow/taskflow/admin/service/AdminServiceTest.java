@@ -1,6 +1,7 @@
 package com.taskflow.taskflow.admin.service;
 
 import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
+import com.taskflow.taskflow.security.UserSnapshotCache;
 import com.taskflow.taskflow.user.model.Usuario;
 import com.taskflow.taskflow.user.model.UserRole;
 import com.taskflow.taskflow.user.model.UserStatus;
@@ -24,6 +25,9 @@ public class AdminServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -46,6 +50,7 @@ public class AdminServiceTest {
         // Assert
         assertEquals(UserStatus.INACTIVE, user.getStatus());
         verify(usuarioRepository, times(1)).save(user);
+        verify(userSnapshotCache, times(1)).invalidate(userId);
     }
 
     @Test
@@ -74,6 +79,7 @@ public class AdminServiceTest {
         // Assert
         assertEquals(UserRole.MANAGER, user.getRole());
         verify(usuarioRepository, times(1)).save(user);
+        verify(userSnapshotCache, times(1)).invalidate(userId);
     }
 
     @Test
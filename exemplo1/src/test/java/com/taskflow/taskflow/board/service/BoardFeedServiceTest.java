@@ -0,0 +1,58 @@
+package com.taskflow.taskflow.board.service;
+
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardFeedServiceTest {
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private BoardFeed boardFeed;
+
+    @InjectMocks
+    private BoardFeedService boardFeedService;
+
+    private UUID projectId;
+    private UserPrincipal currentUser;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        Usuario user = new Usuario();
+        user.setId(UUID.randomUUID());
+        currentUser = new UserPrincipal(user);
+    }
+
+    @Test
+    void subscribe_ShouldOpenFeedForMembers() {
+        SseEmitter emitter = new SseEmitter();
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId())).thenReturn(true);
+        when(boardFeed.subscribe(projectId)).thenReturn(emitter);
+
+        assertSame(emitter, boardFeedService.subscribe(projectId, currentUser));
+    }
+
+    @Test
+    void subscribe_ShouldDenyNonMembers() {
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, currentUser.getId())).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> boardFeedService.subscribe(projectId, currentUser));
+        verifyNoInteractions(boardFeed);
+    }
+}
@@ -0,0 +1,247 @@
+package com.taskflow.taskflow.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.event.CommentEvent;
+import com.taskflow.taskflow.comment.event.CommentEventType;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFeedTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar o evento só aos assinantes do projeto")
+    void onProjectEvent_ShouldFanOutToProjectSubscribers() {
+        BoardFeed feed = newFeed(Runnable::run, 16);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherProject = new RecordingEmitter();
+        feed.register(projectId, first);
+        feed.register(projectId, second);
+        feed.register(UUID.randomUUID(), otherProject);
+
+        feed.onProjectEvent(taskEvent(TaskEventType.STATUS_CHANGED));
+
+        assertEquals(2, first.sent.size());
+        assertEquals(2, second.sent.size());
+        assertEquals(1, otherProject.sent.size());
+        assertTrue(first.sent.get(1).contains("event:task.status_changed"));
+        assertTrue(first.sent.get(1).contains("\"status\":\"TODO\""));
+        assertEquals(3, feed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem dos eventos por assinante")
+    void onProjectEvent_ShouldPreserveOrder() {
+        BoardFeed feed = newFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(projectId, emitter);
+
+        feed.onProjectEvent(taskEvent(TaskEventType.CREATED));
+        feed.onProjectEvent(new CommentEvent(CommentEventType.ADDED, projectId,
+                new CommentResponse(UUID.randomUUID(), "Oi", UUID.randomUUID(), UUID.randomUUID(), Instant.now())));
+        feed.onProjectEvent(taskEvent(TaskEventType.DELETED));
+
+        assertTrue(emitter.sent.get(1).contains("event:task.created"));
+        assertTrue(emitter.sent.get(2).contains("event:comment.added"));
+        assertTrue(emitter.sent.get(3).contains("event:task.deleted"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar os eventos da transação só depois do commit")
+    void onProjectEvent_ShouldSendTransactionEventsAfterCommit() {
+        BoardFeed feed = newFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(projectId, emitter);
+        TransactionSynchronizationManager.initSynchronization();
+
+        feed.onProjectEvent(taskEvent(TaskEventType.CREATED));
+        feed.onProjectEvent(taskEvent(TaskEventType.UPDATED));
+        assertEquals(1, emitter.sent.size());
+
+        commit();
+
+        assertEquals(3, emitter.sent.size());
+        assertTrue(emitter.sent.get(1).contains("event:task.created"));
+        assertTrue(emitter.sent.get(2).contains("event:task.updated"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar uma transação maior que a fila em um único evento sem derrubar o assinante")
+    void onProjectEvent_ShouldCoalesceLargeTransaction() {
+        BoardFeed feed = newFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(projectId, emitter);
+        TransactionSynchronizationManager.initSynchronization();
+
+        List<UUID> taskIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            TaskEvent event = taskEvent(TaskEventType.STATUS_CHANGED);
+            taskIds.add(event.task().id());
+            feed.onProjectEvent(event);
+        }
+        commit();
+
+        assertEquals(1, feed.subscriberCount());
+        assertEquals(0.0, meterRegistry.counter("taskflow.board.subscribers.dropped").count());
+        assertEquals(2, emitter.sent.size());
+        String bulk = emitter.sent.get(1);
+        assertTrue(bulk.contains("event:project.bulk_changed"));
+        assertTrue(bulk.contains("\"task.status_changed\""));
+        taskIds.forEach(id -> assertTrue(bulk.contains(id.toString())));
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante que não acompanha os eventos")
+    void onProjectEvent_ShouldDropSlowSubscriber() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        BoardFeed feed = newFeed(pendingDrains::add, 2);
+        RecordingEmitter slow = new RecordingEmitter();
+        feed.register(projectId, slow);
+
+        // Nenhum dreno roda: "connected" + 1 evento enchem a fila; o próximo estoura
+        feed.onProjectEvent(taskEvent(TaskEventType.CREATED));
+        feed.onProjectEvent(taskEvent(TaskEventType.UPDATED));
+
+        assertEquals(0, feed.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("taskflow.board.subscribers.dropped").count());
+    }
+
+    @Test
+    @DisplayName("Deve remover o assinante quando a escrita falha")
+    void drain_ShouldRemoveSubscriberOnWriteFailure() {
+        BoardFeed feed = newFeed(Runnable::run, 16);
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failOnSend = true;
+
+        feed.register(projectId, broken);
+
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Deve continuar entregando aos demais quando a escrita de um assinante trava")
+    void checkStalledSends_ShouldKeepFanOutGoingWhenOneWriteBlocks() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        BoardFeed feed = new BoardFeed(new ObjectMapper().findAndRegisterModules(), meterRegistry, pool,
+                60_000, 16, 8, 50, 4);
+        try {
+            BlockingEmitter stuck = new BlockingEmitter();
+            RecordingEmitter healthy = new RecordingEmitter();
+            feed.register(projectId, stuck);
+            assertTrue(stuck.writing.await(5, TimeUnit.SECONDS));
+            feed.register(projectId, healthy);
+
+            // A única thread do pool está presa; passado o prazo, o assinante sai e o pool ganha outra thread
+            Thread.sleep(100);
+            feed.checkStalledSends();
+            feed.onProjectEvent(taskEvent(TaskEventType.CREATED));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (healthy.sent.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, healthy.sent.size());
+            assertEquals(1, feed.subscriberCount());
+            assertEquals(1.0, meterRegistry.counter("taskflow.board.sends.stalled").count());
+
+            // Quando a escrita presa termina, a thread extra é devolvida
+            stuck.release.countDown();
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pool.getCorePoolSize() > 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, pool.getCorePoolSize());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private BoardFeed newFeed(Executor executor, int maxQueued) {
+        return new BoardFeed(new ObjectMapper().findAndRegisterModules(), meterRegistry, executor, 60_000, maxQueued,
+                8, 10_000, 4);
+    }
+
+    private TaskEvent taskEvent(TaskEventType type) {
+        return TaskEvent.of(type, new TaskResponse(UUID.randomUUID(), "Task", null, TaskStatus.TODO, projectId,
+                null, null, Instant.now()));
+    }
+
+    // Cliente que parou de ler: a escrita fica presa até ser liberada
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws java.io.IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new java.io.IOException(e);
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private boolean failOnSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws java.io.IOException {
+            if (failOnSend) {
+                throw new java.io.IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            sent.add(text.toString());
+        }
+    }
+}
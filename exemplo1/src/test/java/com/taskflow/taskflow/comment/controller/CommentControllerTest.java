@@ -0,0 +1,51 @@
+package com.taskflow.taskflow.comment.controller;
+
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@QueryBudgetTest
+@AutoConfigureMockMvc
+class CommentControllerTest {
+
+    private static final String REVALIDATE = "no-cache, private";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void getComments_ShouldLetBrowsersStoreTheListsAndRevalidate() throws Exception {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        Task task = testData.tasks(project, owner, 1).get(0);
+        testData.comments(task, owner, 2);
+        UserPrincipal principal = new UserPrincipal(owner);
+        String url = "/api/tasks/" + task.getId() + "/comments";
+
+        mockMvc.perform(get(url).with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+        mockMvc.perform(get(url + "/page").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.taskflow.comment.service;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static com.taskflow.taskflow.support.QueryBudget.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryBudgetTest
+class CommentServiceQueryBudgetTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TestData testData;
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 300})
+    void getCommentsByTaskId_ShouldUseThreeStatementsRegardlessOfSize(int commentCount) {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Usuario author = testData.user(UserRole.COLLABORATOR);
+        Project project = testData.project(owner);
+        testData.member(project, author);
+        Task task = testData.tasks(project, author, 1).get(0);
+        testData.comments(task, author, commentCount);
+
+        // Tarefa + membro (cache frio) + lista
+        List<CommentResponse> comments = assertStatementsAtMost(3,
+                () -> commentService.getCommentsByTaskId(task.getId(), new UserPrincipal(owner)));
+
+        assertEquals(commentCount, comments.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 300})
+    void getCommentsPageByTaskId_ShouldUseThreeStatementsRegardlessOfSize(int commentCount) {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        Task task = testData.tasks(project, owner, 1).get(0);
+        testData.comments(task, owner, commentCount);
+
+        var page = assertStatementsAtMost(3,
+                () -> commentService.getCommentsPageByTaskId(task.getId(), null, 50, false, new UserPrincipal(owner)));
+
+        assertEquals(Math.min(commentCount, 50), page.items().size());
+    }
+}
@@ -1,12 +1,18 @@
 package com.taskflow.taskflow.comment.service;
 
+import com.taskflow.taskflow.comment.dto.CommentAccess;
 import com.taskflow.taskflow.comment.dto.CommentRequest;
 import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.event.CommentEvent;
+import com.taskflow.taskflow.comment.event.CommentEventType;
 import com.taskflow.taskflow.comment.model.Comment;
 import com.taskflow.taskflow.comment.repository.CommentRepository;
 import com.taskflow.taskflow.core.exception.ResourceNotFoundException;
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.core.pagination.KeysetCursor;
 import com.taskflow.taskflow.project.model.Project;
-import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.project.service.ProjectVersionService;
 import com.taskflow.taskflow.security.UserPrincipal;
 import com.taskflow.taskflow.task.model.Task;
 import com.taskflow.taskflow.task.repository.TaskRepository;
@@ -18,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.Instant;
@@ -43,7 +51,13 @@ class CommentServiceTest {
     private UsuarioRepository usuarioRepository;
 
     @Mock
-    private ProjectMemberRepository projectMemberRepository;
+    private ProjectMembershipCache projectMembershipCache;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private CommentService commentService;
@@ -84,7 +98,7 @@ class CommentServiceTest {
     @Test
     void createComment_Success() {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
         when(usuarioRepository.findById(userId)).thenReturn(Optional.of(user));
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
@@ -95,6 +109,7 @@ class CommentServiceTest {
         assertEquals(comment.getId(), response.id());
         assertEquals(comment.getContent(), response.content());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(eventPublisher).publishEvent(new CommentEvent(CommentEventType.ADDED, projectId, CommentResponse.fromEntity(comment)));
     }
 
     @Test
@@ -111,7 +126,7 @@ class CommentServiceTest {
     @Test
     void createComment_UserNotMember() {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(false);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(false);
 
         CommentRequest request = new CommentRequest("Test comment");
 
@@ -122,19 +137,28 @@ class CommentServiceTest {
 
     @Test
     void getCommentById_Success() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(commentRepository.findWithAccessById(commentId, userId))
+                .thenReturn(Optional.of(new CommentAccess(comment, projectId, true)));
 
         CommentResponse response = commentService.getCommentById(taskId, commentId, currentUser);
 
         assertNotNull(response);
         assertEquals(commentId, response.id());
+        verifyNoInteractions(projectMembershipCache);
+    }
+
+    @Test
+    void getCommentById_UserNotMember() {
+        when(commentRepository.findWithAccessById(commentId, userId))
+                .thenReturn(Optional.of(new CommentAccess(comment, projectId, false)));
+
+        assertThrows(AccessDeniedException.class, () -> commentService.getCommentById(taskId, commentId, currentUser));
     }
 
     @Test
     void getCommentsByTaskId_Success() {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
         when(commentRepository.findByTaskId(taskId)).thenReturn(Collections.singletonList(comment));
 
         List<CommentResponse> responses = commentService.getCommentsByTaskId(taskId, currentUser);
@@ -145,9 +169,60 @@ class CommentServiceTest {
         assertEquals(commentId, responses.get(0).id());
     }
 
+    @Test
+    void getCommentsPageByTaskId_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        when(taskRepository.findProjectIdById(taskId)).thenReturn(Optional.of(projectId));
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        CommentResponse first = commentRow(Instant.parse("2025-01-01T10:00:00Z"));
+        CommentResponse second = commentRow(Instant.parse("2025-01-01T11:00:00Z"));
+        CommentResponse extra = commentRow(Instant.parse("2025-01-01T12:00:00Z"));
+        when(commentRepository.findFirstCommentsPage(taskId, Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        CursorPage<CommentResponse> page = commentService.getCommentsPageByTaskId(taskId, null, 2, false, currentUser);
+
+        assertEquals(List.of(first, second), page.items());
+        assertEquals(new KeysetCursor(second.createdAt(), second.id()).encode(), page.nextCursor());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void getCommentsPageByTaskId_NewestFirst_ShouldSeekBeforeCursor() {
+        when(taskRepository.findProjectIdById(taskId)).thenReturn(Optional.of(projectId));
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-01-01T12:00:00Z"), UUID.randomUUID());
+        CommentResponse older = commentRow(Instant.parse("2025-01-01T09:00:00Z"));
+        when(commentRepository.findCommentsPageBefore(taskId, cursor.instant(), cursor.id(), Limit.of(11)))
+                .thenReturn(List.of(older));
+
+        CursorPage<CommentResponse> page = commentService.getCommentsPageByTaskId(taskId, cursor.encode(), 10, true, currentUser);
+
+        assertEquals(List.of(older), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getCommentsETag_ShouldIncludeTaskInTheProjectListETag() {
+        when(taskRepository.findProjectIdById(taskId)).thenReturn(Optional.of(projectId));
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        when(projectVersionService.listETag(projectId, "list", taskId)).thenReturn("W/\"7-abc\"");
+
+        assertEquals("W/\"7-abc\"", commentService.getCommentsETag(taskId, currentUser, "list"));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void getCommentsPageByTaskId_UserNotMember() {
+        when(taskRepository.findProjectIdById(taskId)).thenReturn(Optional.of(projectId));
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> commentService.getCommentsPageByTaskId(taskId, null, 10, false, currentUser));
+        verifyNoInteractions(commentRepository);
+    }
+
     @Test
     void updateComment_Success() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAccessById(eq(commentId), any())).thenReturn(Optional.of(new CommentAccess(comment, projectId, true)));
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         CommentRequest request = new CommentRequest("Updated comment");
@@ -162,7 +237,7 @@ class CommentServiceTest {
         Usuario otherUserObj = new Usuario();
         otherUserObj.setId(UUID.randomUUID());
         UserPrincipal otherUser = new UserPrincipal(otherUserObj);
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAccessById(eq(commentId), any())).thenReturn(Optional.of(new CommentAccess(comment, projectId, true)));
 
         CommentRequest request = new CommentRequest("Updated comment");
 
@@ -173,7 +248,7 @@ class CommentServiceTest {
 
     @Test
     void deleteComment_Success() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAccessById(eq(commentId), any())).thenReturn(Optional.of(new CommentAccess(comment, projectId, true)));
         doNothing().when(commentRepository).delete(comment);
 
         assertDoesNotThrow(() -> {
@@ -181,6 +256,7 @@ class CommentServiceTest {
         });
 
         verify(commentRepository, times(1)).delete(comment);
+        verify(eventPublisher).publishEvent(new CommentEvent(CommentEventType.DELETED, projectId, CommentResponse.fromEntity(comment)));
     }
 
     @Test
@@ -188,10 +264,14 @@ class CommentServiceTest {
         Usuario otherUserObj = new Usuario();
         otherUserObj.setId(UUID.randomUUID());
         UserPrincipal otherUser = new UserPrincipal(otherUserObj);
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAccessById(eq(commentId), any())).thenReturn(Optional.of(new CommentAccess(comment, projectId, true)));
 
         assertThrows(AccessDeniedException.class, () -> {
             commentService.deleteComment(taskId, commentId, otherUser);
         });
     }
+
+    private CommentResponse commentRow(Instant createdAt) {
+        return new CommentResponse(UUID.randomUUID(), "Comment", taskId, userId, createdAt);
+    }
 }
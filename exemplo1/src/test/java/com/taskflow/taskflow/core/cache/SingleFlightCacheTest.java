@@ -0,0 +1,82 @@
+package com.taskflow.taskflow.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheTest {
+
+    @Test
+    void get_ShouldLoadOnceForConcurrentCallers() throws Exception {
+        SingleFlightCache<String, Integer> cache = SingleFlightCache.build(Caffeine.newBuilder().recordStats());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("k", key -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return 42;
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> cache.get("k", key -> {
+                    loads.incrementAndGet();
+                    return -1;
+                })));
+            }
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailures() {
+        SingleFlightCache<String, Integer> cache = SingleFlightCache.build(Caffeine.newBuilder());
+
+        assertThrows(IllegalStateException.class, () -> cache.get("k", key -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        assertEquals(7, cache.get("k", key -> 7));
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        SingleFlightCache<String, Integer> cache = SingleFlightCache.build(Caffeine.newBuilder().recordStats());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("k", key -> loads.incrementAndGet());
+        cache.get("k", key -> loads.incrementAndGet());
+        cache.invalidate("k");
+
+        assertEquals(2, cache.get("k", key -> loads.incrementAndGet()));
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
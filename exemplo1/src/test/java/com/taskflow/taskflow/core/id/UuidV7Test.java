@@ -0,0 +1,50 @@
+package com.taskflow.taskflow.core.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void next_ShouldSetVersionAndVariant() {
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_ShouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    void next_ShouldBeStrictlyIncreasingWithinThread() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7.next();
+            // Ordem dos bytes (unsigned), a mesma usada pelo índice BINARY(16)
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    void next_ShouldBeUniqueAcrossThreads() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(UuidV7.next()));
+
+        assertEquals(200_000, ids.size());
+    }
+}
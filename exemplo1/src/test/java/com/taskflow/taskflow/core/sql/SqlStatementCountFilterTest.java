@@ -0,0 +1,63 @@
+package com.taskflow.taskflow.core.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementCountFilterTest {
+
+    private static final String ROUTE = "/api/tasks/projects/{projectId}/tasks";
+
+    private SqlStatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementCountFilter(statementCounter, meterRegistry, 3);
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsPerRoute() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> issueStatements(2));
+
+        var summary = meterRegistry.get("taskflow.http.sql.statements").tag("uri", ROUTE).summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+        assertTrue(meterRegistry.find("taskflow.http.sql.excessive").counters().isEmpty());
+    }
+
+    @Test
+    void doFilter_ShouldFlagRequestsAboveThreshold() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> issueStatements(5));
+
+        assertEquals(1.0, meterRegistry.get("taskflow.http.sql.excessive").tag("uri", ROUTE).counter().count());
+    }
+
+    @Test
+    void inspect_ShouldNotCountOutsideRequests() throws Exception {
+        issueStatements(4);
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> issueStatements(1));
+
+        assertEquals(1.0, meterRegistry.get("taskflow.http.sql.statements").summary().totalAmount());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/projects/42/tasks");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        return request;
+    }
+
+    private void issueStatements(int count) {
+        for (int i = 0; i < count; i++) {
+            statementCounter.inspect("select 1");
+        }
+    }
+}
@@ -1,48 +1,68 @@
 package com.taskflow.taskflow.dashboard.service;
 
 import com.taskflow.taskflow.dashboard.dto.DashboardResponse;
+import com.taskflow.taskflow.dashboard.model.TaskStatusCounter;
+import com.taskflow.taskflow.dashboard.repository.TaskStatusCounterRepository;
 import com.taskflow.taskflow.security.UserPrincipal;
-import com.taskflow.taskflow.task.model.TaskStatus;
-import com.taskflow.taskflow.task.repository.TaskRepository;
 import com.taskflow.taskflow.user.model.Usuario;
-import com.taskflow.taskflow.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DashboardServiceTest {
 
     @Mock
-    private TaskRepository taskRepository;
+    private TaskStatusCounterRepository counterRepository;
     @Mock
-    private UserService userService;
+    private TaskCounterService taskCounterService;
 
     @InjectMocks
     private DashboardService dashboardService;
 
+    private UUID userId;
+    private UserPrincipal currentUserPrincipal;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userId = UUID.randomUUID();
+        Usuario user = new Usuario();
+        user.setId(userId);
+        currentUserPrincipal = new UserPrincipal(user);
     }
 
     @Test
     void testGetDashboardSummary() {
-        UserPrincipal currentUserPrincipal = new UserPrincipal(new Usuario());
-        Usuario currentUser = new Usuario();
-        when(userService.validateAndGetUserByUsername(currentUserPrincipal.getUsername())).thenReturn(currentUser);
-        when(taskRepository.countByStatusAndAssignee(TaskStatus.TODO, currentUser)).thenReturn(5L);
-        when(taskRepository.countByStatusAndAssignee(TaskStatus.IN_PROGRESS, currentUser)).thenReturn(3L);
-        when(taskRepository.countByStatusAndAssignee(TaskStatus.DONE, currentUser)).thenReturn(2L);
+        when(counterRepository.findById(userId)).thenReturn(Optional.of(new TaskStatusCounter(userId, 5L, 3L, 2L)));
 
         DashboardResponse summary = dashboardService.getDashboardSummary(currentUserPrincipal);
 
         assertEquals(5L, summary.getTodoCount());
         assertEquals(3L, summary.getInProgressCount());
         assertEquals(2L, summary.getDoneCount());
+        verify(taskCounterService, never()).rebuild(any());
+    }
+
+    @Test
+    void testGetDashboardSummary_RebuildsMissingCounters() {
+        when(counterRepository.findById(userId)).thenReturn(Optional.empty());
+        when(taskCounterService.rebuild(userId)).thenReturn(new TaskStatusCounter(userId, 1L, 0L, 4L));
+
+        DashboardResponse summary = dashboardService.getDashboardSummary(currentUserPrincipal);
+
+        assertEquals(1L, summary.getTodoCount());
+        assertEquals(0L, summary.getInProgressCount());
+        assertEquals(4L, summary.getDoneCount());
     }
 }
@@ -0,0 +1,88 @@
+package com.taskflow.taskflow.dashboard.service;
+
+import com.taskflow.taskflow.dashboard.model.TaskStatusCounter;
+import com.taskflow.taskflow.dashboard.repository.TaskStatusCounterRepository;
+import com.taskflow.taskflow.task.dto.TaskStatusCount;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCounterServiceTest {
+
+    @Mock
+    private TaskStatusCounterRepository counterRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskCounterService taskCounterService;
+
+    private final UUID assigneeId = UUID.randomUUID();
+
+    @Test
+    void taskMoved_ShouldApplyBothDeltasInOneUpsert() {
+        taskCounterService.taskMoved(assigneeId, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+
+        verify(counterRepository, times(1)).addDeltas(assigneeId, 0L, -1L, 1L);
+    }
+
+    @Test
+    void taskMoved_ShouldSkipWhenStatusIsUnchanged() {
+        taskCounterService.taskMoved(assigneeId, TaskStatus.TODO, TaskStatus.TODO);
+
+    }
+
+    @Test
+    void tasksMoved_ShouldApplyTheWholeGroupInOneUpsert() {
+        taskCounterService.tasksMoved(assigneeId, TaskStatus.TODO, TaskStatus.DONE, 5);
+
+        verify(counterRepository, times(1)).addDeltas(assigneeId, -5L, 0L, 5L);
+    }
+
+    @Test
+    void tasksReassigned_ShouldMoveTheWholeGroupBetweenAssignees() {
+        UUID newAssigneeId = UUID.randomUUID();
+
+        taskCounterService.tasksReassigned(assigneeId, newAssigneeId, TaskStatus.IN_PROGRESS, 3);
+
+        verify(counterRepository).addDeltas(assigneeId, 0L, -3L, 0L);
+        verify(counterRepository).addDeltas(newAssigneeId, 0L, 3L, 0L);
+    }
+
+    @Test
+    void taskReassigned_ShouldMoveCountBetweenAssignees() {
+        UUID newAssigneeId = UUID.randomUUID();
+
+        taskCounterService.taskReassigned(assigneeId, newAssigneeId, TaskStatus.TODO);
+
+        verify(counterRepository).addDeltas(assigneeId, -1L, 0L, 0L);
+        verify(counterRepository).addDeltas(newAssigneeId, 1L, 0L, 0L);
+    }
+
+    @Test
+    void rebuild_ShouldInsertCountersFromGroupByWithoutOverwriting() {
+        when(taskRepository.countByAssigneeGroupedByStatus(assigneeId)).thenReturn(List.of(
+                new TaskStatusCount(TaskStatus.TODO, 2L),
+                new TaskStatusCount(TaskStatus.DONE, 7L)));
+
+        TaskStatusCounter counter = taskCounterService.rebuild(assigneeId);
+
+        assertEquals(2L, counter.getTodoCount());
+        assertEquals(0L, counter.getInProgressCount());
+        assertEquals(7L, counter.getDoneCount());
+        verify(counterRepository).insertCountsIfAbsent(assigneeId, 2L, 0L, 7L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.taskflow.taskflow.outbox.dto.OutboxMessage;
+import com.taskflow.taskflow.outbox.model.OutboxDeadLetter;
+import com.taskflow.taskflow.outbox.model.OutboxEvent;
+import com.taskflow.taskflow.outbox.repository.OutboxDeadLetterRepository;
+import com.taskflow.taskflow.outbox.repository.OutboxEventRepository;
+import com.taskflow.taskflow.outbox.repository.OutboxPartitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository eventRepository;
+    @Mock
+    private OutboxPartitionRepository partitionRepository;
+    @Mock
+    private OutboxDeadLetterRepository deadLetterRepository;
+    @Mock
+    private ObjectProvider<OutboxHandler> handlerProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<OutboxMessage> handled = new ArrayList<>();
+    private final List<String> failingTypes = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        OutboxHandler handler = message -> {
+            if (failingTypes.contains(message.eventType())) {
+                throw new IllegalStateException("consumer down");
+            }
+            handled.add(message);
+        };
+        when(handlerProvider.orderedStream()).thenReturn(Stream.of(handler));
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxDispatcher(eventRepository, partitionRepository, deadLetterRepository, handlerProvider,
+                transactionManager, meterRegistry, 4, 10, 3);
+    }
+
+    @Test
+    @DisplayName("Deve entregar o lote em ordem e remover os eventos entregues")
+    void dispatchBatch_ShouldDeliverInOrderAndDelete() {
+        OutboxEvent first = event(1L, 0, "task.created", 0);
+        OutboxEvent second = event(2L, 1, "task.updated", 0);
+        when(eventRepository.lockPendingPartitions(4)).thenReturn(List.of(0, 1));
+        when(eventRepository.findBatch(List.of(0, 1), 10)).thenReturn(List.of(first, second));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+        verifyNoInteractions(deadLetterRepository);
+
+        assertEquals(List.of(1L, 2L), handled.stream().map(OutboxMessage::id).toList());
+        verify(eventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(2.0, meterRegistry.counter("taskflow.outbox.dispatched").count());
+        assertEquals(2, meterRegistry.timer("taskflow.outbox.lag").count());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve segurar os eventos seguintes da partição quando uma entrega falha")
+    void dispatchBatch_ShouldBlockPartitionAfterFailure() {
+        failingTypes.add("task.created");
+        OutboxEvent failing = event(1L, 0, "task.created", 0);
+        OutboxEvent samePartition = event(2L, 0, "task.updated", 0);
+        OutboxEvent otherPartition = event(3L, 1, "comment.added", 0);
+        when(eventRepository.lockPendingPartitions(4)).thenReturn(List.of(0, 1));
+        when(eventRepository.findBatch(List.of(0, 1), 10)).thenReturn(List.of(failing, samePartition, otherPartition));
+
+        // Falha devolve 0 para o próximo lote esperar o intervalo de polling
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(3L), handled.stream().map(OutboxMessage::id).toList());
+        assertEquals(1, failing.getAttempts());
+        verify(eventRepository).deleteAllByIdInBatch(List.of(3L));
+        assertEquals(1.0, meterRegistry.counter("taskflow.outbox.failed").count());
+    }
+
+    @Test
+    @DisplayName("Deve mover o evento para dead letters após o número máximo de tentativas")
+    void dispatchBatch_ShouldDeadLetterEventAfterMaxAttempts() {
+        failingTypes.add("task.created");
+        OutboxEvent poison = event(1L, 0, "task.created", 2);
+        OutboxEvent next = event(2L, 0, "task.updated", 0);
+        when(eventRepository.lockPendingPartitions(4)).thenReturn(List.of(0));
+        when(eventRepository.findBatch(List.of(0), 10)).thenReturn(List.of(poison, next));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(2L), handled.stream().map(OutboxMessage::id).toList());
+        verify(eventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        ArgumentCaptor<List<OutboxDeadLetter>> saved = ArgumentCaptor.captor();
+        verify(deadLetterRepository).saveAll(saved.capture());
+        OutboxDeadLetter deadLetter = saved.getValue().get(0);
+        assertEquals(1L, deadLetter.getEventId());
+        assertEquals(poison.getPayload(), deadLetter.getPayload());
+        assertEquals(3, deadLetter.getAttempts());
+        assertTrue(deadLetter.getLastError().contains("consumer down"));
+        assertEquals(1.0, meterRegistry.counter("taskflow.outbox.dead.lettered").count());
+    }
+
+    @Test
+    @DisplayName("Não deve ler eventos quando todas as partições estão travadas ou vazias")
+    void dispatchBatch_ShouldSkipWhenNoPartitionIsAvailable() {
+        when(eventRepository.lockPendingPartitions(4)).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        verify(eventRepository, never()).findBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Não deve drenar nem apagar eventos quando não há handlers")
+    void dispatchBatch_ShouldKeepEventsWithoutHandlers() {
+        when(handlerProvider.orderedStream()).thenReturn(Stream.empty());
+        OutboxDispatcher withoutHandlers = new OutboxDispatcher(eventRepository, partitionRepository,
+                deadLetterRepository, handlerProvider, transactionManager, meterRegistry, 4, 10, 3);
+
+        assertEquals(0, withoutHandlers.dispatchBatch());
+
+        verifyNoInteractions(eventRepository, deadLetterRepository, transactionManager);
+        assertEquals(0.0, meterRegistry.counter("taskflow.outbox.dispatched").count());
+    }
+
+    private static OutboxEvent event(long id, int partition, String type, int attempts) {
+        return new OutboxEvent(id, partition, "project", UUID.randomUUID().toString(), type, "{}", attempts,
+                Instant.now().minusMillis(50));
+    }
+}
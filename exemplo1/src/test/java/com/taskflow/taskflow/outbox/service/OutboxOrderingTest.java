@@ -0,0 +1,106 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.taskflow.taskflow.project.service.ProjectVersionService;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryBudgetTest
+class OutboxOrderingTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentWritesOnSameProject_ShouldInsertOutboxRowsInCommitOrder() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Cria a linha de project_versions do projeto
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event(projectId, TaskEventType.CREATED)));
+
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // A primeira transação para logo depois do INSERT no outbox, ainda sem commit
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                eventPublisher.publishEvent(event(projectId, TaskEventType.STATUS_CHANGED));
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        firstInserted.countDown();
+                        await(releaseFirst);
+                    }
+
+                    // Mesma ordem do OutboxWriter; registrada depois dele, roda logo após o INSERT
+                    @Override
+                    public int getOrder() {
+                        return ProjectVersionService.SYNCHRONIZATION_ORDER + 1;
+                    }
+                });
+            }));
+            assertTrue(firstInserted.await(5, TimeUnit.SECONDS));
+
+            Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCK_TIMEOUT 10000");
+                eventPublisher.publishEvent(event(projectId, TaskEventType.DELETED));
+            }));
+
+            // A segunda não pode commitar o seu evento antes da primeira
+            assertThrows(TimeoutException.class, () -> second.get(500, TimeUnit.MILLISECONDS));
+            releaseFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            List<String> eventTypes = jdbcTemplate.queryForList(
+                    "SELECT event_type FROM outbox_events WHERE aggregate_id = ? ORDER BY id", String.class, projectId.toString());
+            assertEquals(List.of("task.created", "task.status_changed", "task.deleted"), eventTypes);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM outbox_events WHERE aggregate_id = ?", projectId.toString());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TaskEvent event(UUID projectId, TaskEventType type) {
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Task", null, TaskStatus.TODO, projectId, null,
+                null, Instant.now());
+        return TaskEvent.of(type, task);
+    }
+}
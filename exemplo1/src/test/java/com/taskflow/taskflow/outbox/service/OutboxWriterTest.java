@@ -0,0 +1,93 @@
+package com.taskflow.taskflow.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxWriter outboxWriter;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxWriter = new OutboxWriter(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), meterRegistry, 16);
+        projectId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(outboxWriter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onProjectEvent_ShouldBufferEventsAndInsertOnceBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        outboxWriter.onProjectEvent(event(TaskEventType.CREATED));
+        outboxWriter.onProjectEvent(event(TaskEventType.STATUS_CHANGED));
+        verifyNoInteractions(jdbcTemplate);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+        ArgumentCaptor<Collection<Object>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, rows.getValue().size());
+        assertEquals(2.0, meterRegistry.counter("taskflow.outbox.written").count());
+    }
+
+    @Test
+    void onProjectEvent_ShouldInsertImmediatelyWithoutTransaction() {
+        outboxWriter.onProjectEvent(event(TaskEventType.DELETED));
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void partitionOf_ShouldBeStablePerProject() {
+        int partition = OutboxWriter.partitionOf(projectId, 16);
+
+        assertEquals(partition, OutboxWriter.partitionOf(projectId, 16));
+        assertTrue(partition >= 0 && partition < 16);
+    }
+
+    private TaskEvent event(TaskEventType type) {
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Task", null, TaskStatus.TODO, projectId, null,
+                null, Instant.now());
+        return TaskEvent.of(type, task);
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskflow.taskflow.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfDatasetTest {
+
+    private final PerfDataset dataset = new PerfDataset(120, 50, 3, 40, 1);
+
+    @Test
+    void assigneeOf_ShouldAlwaysBeMemberOfTheProject() {
+        for (int project = 0; project < dataset.projects(); project++) {
+            for (int task = 0; task < dataset.tasksPerProject(); task++) {
+                Integer assignee = dataset.assigneeOf(project, task);
+                if (assignee != null) {
+                    assertTrue(assignee < dataset.users());
+                    assertTrue(memberships(assignee).contains(project));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ownerOf_ShouldBeMemberOfTheProject() {
+        for (int project = 0; project < dataset.projects(); project++) {
+            assertTrue(memberships(dataset.ownerOf(project)).contains(project));
+        }
+    }
+
+    @Test
+    void projectOf_ShouldGiveDistinctProjectsPerUser() {
+        assertEquals(dataset.projectsPerUser(), memberships(7).size());
+    }
+
+    @Test
+    void constructor_ShouldRejectFewerUsersThanProjects() {
+        assertThrows(IllegalArgumentException.class, () -> new PerfDataset(10, 50, 1, 10, 0));
+    }
+
+    private Set<Integer> memberships(int user) {
+        Set<Integer> projects = new HashSet<>();
+        for (int k = 0; k < dataset.projectsPerUser(); k++) {
+            projects.add(dataset.projectOf(user, k));
+        }
+        return projects;
+    }
+}
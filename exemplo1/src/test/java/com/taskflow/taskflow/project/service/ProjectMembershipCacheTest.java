@@ -0,0 +1,69 @@
+package com.taskflow.taskflow.project.service;
+
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipCacheTest {
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private ProjectMembershipCache membershipCache;
+    private UUID projectId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = new ProjectMembershipCache(projectMemberRepository, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        projectId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void isMember_ShouldHitDatabaseOnlyOnce() {
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+
+        assertTrue(membershipCache.isMember(projectId, userId));
+        assertTrue(membershipCache.isMember(projectId, userId));
+
+        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
+        assertEquals(1, membershipCache.stats().hitCount());
+        assertEquals(1, membershipCache.stats().missCount());
+    }
+
+    @Test
+    void bindTo_ShouldPublishHitAndMissCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        membershipCache.bindTo(registry);
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+
+        membershipCache.isMember(projectId, userId);
+        membershipCache.isMember(projectId, userId);
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "project-membership", "result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "project-membership", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void invalidate_ShouldDropCachedNegativeAnswer() {
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(false, true);
+
+        assertFalse(membershipCache.isMember(projectId, userId));
+        membershipCache.invalidate(projectId, userId);
+
+        assertTrue(membershipCache.isMember(projectId, userId));
+        verify(projectMemberRepository, times(2)).existsByProjectIdAndUserId(projectId, userId);
+    }
+}
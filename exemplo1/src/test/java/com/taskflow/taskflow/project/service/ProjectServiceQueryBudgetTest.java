@@ -0,0 +1,65 @@
+package com.taskflow.taskflow.project.service;
+
+import com.taskflow.taskflow.project.dto.ProjectRequest;
+import com.taskflow.taskflow.project.dto.ProjectResponse;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static com.taskflow.taskflow.support.QueryBudget.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryBudgetTest
+class ProjectServiceQueryBudgetTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void getProjectsByUser_ShouldUseTwoStatementsFor500Projects() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Usuario member = testData.user(UserRole.COLLABORATOR);
+        for (int i = 0; i < 500; i++) {
+            Project project = testData.project(owner);
+            testData.member(project, member);
+        }
+
+        List<ProjectResponse> projects = assertStatementsAtMost(2,
+                () -> projectService.getProjectsByUser(new UserPrincipal(member)));
+
+        assertEquals(500, projects.size());
+    }
+
+    @Test
+    void getProjectsByUser_ShouldNotTouchTheDatabaseOnRepeatLoads() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        testData.project(owner);
+        projectService.getProjectsByUser(new UserPrincipal(owner));
+
+        List<ProjectResponse> projects = assertStatementsAtMost(0,
+                () -> projectService.getProjectsByUser(new UserPrincipal(owner)));
+
+        assertEquals(1, projects.size());
+    }
+
+    @Test
+    void createProject_ShouldRefreshTheOwnersList() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        projectService.createProject(new ProjectRequest("First", null), owner);
+        assertEquals(1, projectService.getProjectsByUser(new UserPrincipal(owner)).size());
+
+        projectService.createProject(new ProjectRequest("Second", null), owner);
+
+        assertEquals(2, projectService.getProjectsByUser(new UserPrincipal(owner)).size());
+    }
+}
@@ -19,7 +19,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.taskflow.taskflow.security.UserPrincipal;
 import com.taskflow.taskflow.user.model.UserStatus;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +39,12 @@ class ProjectServiceTest {
     @Mock
     private com.taskflow.taskflow.user.repository.UsuarioRepository usuarioRepository;
 
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+
+    @Mock
+    private UserProjectsCache userProjectsCache;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -98,26 +103,17 @@ class ProjectServiceTest {
 
         // Verificar se o método save do repositório de membros foi chamado 1 vez
         verify(projectMemberRepository, times(1)).save(any(ProjectMember.class));
+        verify(projectMembershipCache, times(1)).invalidate(savedProject.getId(), userId);
+        verify(userProjectsCache, times(1)).invalidate(userId);
     }
 
     @Test
     @DisplayName("Deve retornar a lista de projetos quando o usuário é membro")
     void getProjectsByUser_ShouldReturnProjects_WhenUserIsMember() {
         // Arrange
-        Project project1 = new Project();
-        project1.setId(UUID.randomUUID());
-        project1.setName("Project Alpha");
-        project1.setOwner(projectOwner);
-
-        Project project2 = new Project();
-        project2.setId(UUID.randomUUID());
-        project2.setName("Project Beta");
-        project2.setOwner(projectOwner);
-
-        ProjectMember member1 = new ProjectMember(project1, projectOwner);
-        ProjectMember member2 = new ProjectMember(project2, projectOwner);
-
-        when(projectMemberRepository.findAllByUserId(userId)).thenReturn(List.of(member1, member2));
+        ProjectResponse project1 = new ProjectResponse(UUID.randomUUID(), "Project Alpha", null, userId);
+        ProjectResponse project2 = new ProjectResponse(UUID.randomUUID(), "Project Beta", null, userId);
+        when(userProjectsCache.get(userId)).thenReturn(List.of(project1, project2));
 
         // Act
         List<ProjectResponse> projects = projectService.getProjectsByUser(currentUser);
@@ -127,14 +123,14 @@ class ProjectServiceTest {
         assertEquals(2, projects.size());
         assertEquals("Project Alpha", projects.get(0).name());
         assertEquals("Project Beta", projects.get(1).name());
-        verify(projectMemberRepository, times(1)).findAllByUserId(userId);
+        verifyNoInteractions(projectMemberRepository);
     }
 
     @Test
     @DisplayName("Deve retornar uma lista vazia quando o usuário não é membro de nenhum projeto")
     void getProjectsByUser_ShouldReturnEmptyList_WhenUserIsNotMember() {
         // Arrange
-        when(projectMemberRepository.findAllByUserId(userId)).thenReturn(new ArrayList<>());
+        when(userProjectsCache.get(userId)).thenReturn(List.of());
 
         // Act
         List<ProjectResponse> projects = projectService.getProjectsByUser(currentUser);
@@ -142,7 +138,7 @@ class ProjectServiceTest {
         // Assert
         assertNotNull(projects);
         assertTrue(projects.isEmpty());
-        verify(projectMemberRepository, times(1)).findAllByUserId(userId);
+        verify(userProjectsCache, times(1)).get(userId);
     }
 
     @Test
@@ -171,5 +167,7 @@ class ProjectServiceTest {
 
         // Assert
         verify(projectMemberRepository, times(1)).save(any(ProjectMember.class));
+        verify(projectMembershipCache, times(1)).invalidate(project.getId(), userToAdd.getId());
+        verify(userProjectsCache, times(1)).invalidate(userToAdd.getId());
     }
 }
@@ -0,0 +1,109 @@
+package com.taskflow.taskflow.project.service;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.event.CommentEvent;
+import com.taskflow.taskflow.comment.event.CommentEventType;
+import com.taskflow.taskflow.project.repository.ProjectVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectVersionServiceTest {
+
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
+    @InjectMocks
+    private ProjectVersionService projectVersionService;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(projectVersionService);
+    }
+
+    @Test
+    void onProjectEvent_ShouldBumpEachProjectOnceBeforeCommit() {
+        UUID otherProjectId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        projectVersionService.onProjectEvent(event(projectId));
+        projectVersionService.onProjectEvent(event(projectId));
+        projectVersionService.onProjectEvent(event(otherProjectId));
+        verifyNoInteractions(projectVersionRepository);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+        verify(projectVersionRepository, times(1)).increment(projectId);
+        verify(projectVersionRepository, times(1)).increment(otherProjectId);
+    }
+
+    @Test
+    void onProjectEvent_ShouldBumpProjectsInIdOrder() {
+        UUID lowerId = new UUID(0, 1);
+        UUID higherId = new UUID(0, 2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        projectVersionService.onProjectEvent(event(higherId));
+        projectVersionService.onProjectEvent(event(lowerId));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+        InOrder inOrder = inOrder(projectVersionRepository);
+        inOrder.verify(projectVersionRepository).increment(lowerId);
+        inOrder.verify(projectVersionRepository).increment(higherId);
+    }
+
+    @Test
+    void onProjectEvent_ShouldBumpImmediatelyWithoutTransaction() {
+        projectVersionService.onProjectEvent(event(projectId));
+
+        verify(projectVersionRepository).increment(projectId);
+    }
+
+    @Test
+    void listETag_ShouldBeWeakAndChangeWithVersionAndFilters() {
+        when(projectVersionRepository.findVersionByProjectId(projectId)).thenReturn(Optional.empty(), Optional.of(1L), Optional.of(1L));
+
+        String initial = projectVersionService.listETag(projectId, "list", null);
+        String bumped = projectVersionService.listETag(projectId, "list", null);
+        String filtered = projectVersionService.listETag(projectId, "list", "DONE");
+
+        assertTrue(initial.startsWith("W/\"0-"));
+        assertTrue(bumped.startsWith("W/\"1-"));
+        assertNotEquals(bumped, filtered);
+    }
+
+    private CommentEvent event(UUID projectId) {
+        return new CommentEvent(CommentEventType.ADDED, projectId,
+                new CommentResponse(UUID.randomUUID(), "Comment", UUID.randomUUID(), UUID.randomUUID(), Instant.now()));
+    }
+}
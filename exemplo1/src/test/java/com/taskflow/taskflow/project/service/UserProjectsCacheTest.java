@@ -0,0 +1,56 @@
+package com.taskflow.taskflow.project.service;
+
+import com.taskflow.taskflow.project.dto.ProjectResponse;
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProjectsCacheTest {
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private UserProjectsCache userProjectsCache;
+    private UUID userId;
+    private ProjectResponse project;
+
+    @BeforeEach
+    void setUp() {
+        userProjectsCache = new UserProjectsCache(projectMemberRepository, 100, Duration.ofMinutes(5));
+        userId = UUID.randomUUID();
+        project = new ProjectResponse(UUID.randomUUID(), "Alpha", null, userId);
+    }
+
+    @Test
+    void get_ShouldQueryOnlyOnRepeatLoads() {
+        when(projectMemberRepository.findProjectsByUserId(userId)).thenReturn(List.of(project));
+
+        assertEquals(List.of(project), userProjectsCache.get(userId));
+        assertEquals(List.of(project), userProjectsCache.get(userId));
+
+        verify(projectMemberRepository, times(1)).findProjectsByUserId(userId);
+        assertEquals(1, userProjectsCache.stats().hitCount());
+    }
+
+    @Test
+    void invalidate_ShouldReloadTheUsersList() {
+        ProjectResponse added = new ProjectResponse(UUID.randomUUID(), "Beta", null, UUID.randomUUID());
+        when(projectMemberRepository.findProjectsByUserId(userId)).thenReturn(List.of(project), List.of(project, added));
+
+        assertEquals(1, userProjectsCache.get(userId).size());
+        userProjectsCache.invalidate(userId);
+
+        assertEquals(List.of(project, added), userProjectsCache.get(userId));
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskflow.taskflow.search.index;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex searchIndex;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new TaskSearchIndex();
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve ranquear acima a tarefa com o termo no título")
+    void search_ShouldRankTitleMatchesFirst() {
+        UUID inTitle = UUID.randomUUID();
+        UUID inDescription = UUID.randomUUID();
+        searchIndex.indexTask(projectId, inDescription, "Ajustar layout", "Corrigir o login no celular");
+        searchIndex.indexTask(projectId, inTitle, "Corrigir login", "Erro ao autenticar");
+        searchIndex.indexTask(projectId, UUID.randomUUID(), "Outra coisa", "Sem relação");
+
+        TaskSearchIndex.SearchResult result = searchIndex.search(projectId, "login", 0, 10);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(inTitle, inDescription), taskIds(result.hits()));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas na indexação e na consulta")
+    void search_ShouldNormalizeAccentsAndCase() {
+        UUID taskId = UUID.randomUUID();
+        searchIndex.indexTask(projectId, taskId, "Revisão da AUTENTICAÇÃO", null);
+
+        assertEquals(List.of(taskId), taskIds(searchIndex.search(projectId, "autenticacao revisao", 0, 10).hits()));
+    }
+
+    @Test
+    @DisplayName("Deve substituir os termos antigos ao reindexar uma tarefa")
+    void indexTask_ShouldReplacePreviousTerms() {
+        UUID taskId = UUID.randomUUID();
+        searchIndex.indexTask(projectId, taskId, "Deploy antigo", null);
+        searchIndex.indexTask(projectId, taskId, "Deploy novo", null);
+
+        assertEquals(0, searchIndex.search(projectId, "antigo", 0, 10).total());
+        assertEquals(1, searchIndex.search(projectId, "novo", 0, 10).total());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar tarefas pelos comentários e esquecê-los ao remover")
+    void comments_ShouldBeSearchableUntilRemoved() {
+        UUID taskId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+        searchIndex.indexTask(projectId, taskId, "Tarefa", null);
+        searchIndex.indexComment(taskId, commentId, "Timeout no gateway de pagamento");
+
+        assertEquals(List.of(taskId), taskIds(searchIndex.search(projectId, "gateway", 0, 10).hits()));
+
+        searchIndex.removeComment(taskId, commentId);
+        assertEquals(0, searchIndex.search(projectId, "gateway", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Deve isolar projetos e remover tarefas excluídas")
+    void search_ShouldIsolateProjectsAndHonorRemovals() {
+        UUID taskId = UUID.randomUUID();
+        UUID otherProject = UUID.randomUUID();
+        searchIndex.indexTask(projectId, taskId, "Relatório mensal", null);
+        searchIndex.indexTask(otherProject, UUID.randomUUID(), "Relatório anual", null);
+
+        assertEquals(1, searchIndex.search(projectId, "relatorio", 0, 10).total());
+
+        searchIndex.removeTask(projectId, taskId);
+        assertEquals(0, searchIndex.search(projectId, "relatorio", 0, 10).total());
+        assertEquals(1, searchIndex.search(otherProject, "relatorio", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Deve paginar os resultados ranqueados")
+    void search_ShouldPaginateRankedHits() {
+        for (int i = 0; i < 5; i++) {
+            searchIndex.indexTask(projectId, UUID.randomUUID(), "Bug " + "bug ".repeat(i), null);
+        }
+
+        List<TaskSearchHit> all = searchIndex.search(projectId, "bug", 0, 5).hits();
+        List<TaskSearchHit> secondPage = searchIndex.search(projectId, "bug", 2, 2).hits();
+
+        assertEquals(5, all.size());
+        assertEquals(all.subList(2, 4), secondPage);
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).score() >= all.get(i).score());
+        }
+    }
+
+    private static List<UUID> taskIds(List<TaskSearchHit> hits) {
+        return hits.stream().map(TaskSearchHit::taskId).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskflow.taskflow.search.service;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.comment.repository.CommentRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.search.dto.TaskSearchPage;
+import com.taskflow.taskflow.search.index.TaskSearchIndex;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private TaskSearchIndex searchIndex;
+    private TaskSearchService taskSearchService;
+    private UUID projectId;
+    private UserPrincipal currentUser;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new TaskSearchIndex();
+        taskSearchService = new TaskSearchService(searchIndex, projectMembershipCache, taskRepository, commentRepository);
+        projectId = UUID.randomUUID();
+        Usuario user = new Usuario();
+        user.setId(UUID.randomUUID());
+        currentUser = new UserPrincipal(user);
+    }
+
+    @Test
+    void rebuildIndex_ShouldIndexTasksAndTheirComments() {
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.streamAllTasks()).thenReturn(Stream.of(
+                new TaskResponse(taskId, "Migrar banco", null, TaskStatus.TODO, projectId, null, null, Instant.now())));
+        when(commentRepository.streamAllComments()).thenReturn(Stream.of(
+                new CommentResponse(UUID.randomUUID(), "Falta o índice composto", taskId, UUID.randomUUID(), Instant.now())));
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+
+        assertEquals(1, taskSearchService.rebuildIndex());
+
+        TaskSearchPage page = taskSearchService.searchTasks(projectId, "indice", 0, 20, currentUser);
+        assertEquals(1, page.total());
+        assertEquals(taskId, page.hits().get(0).taskId());
+    }
+
+    @Test
+    void rebuildIndex_ShouldReplayWritesThatHappenWhileTheSnapshotIsRead() {
+        UUID deletedId = UUID.randomUUID();
+        UUID updatedId = UUID.randomUUID();
+        searchIndex.indexTask(projectId, deletedId, "Relatório antigo", null);
+        // O snapshot foi lido antes das escritas abaixo, que chegam durante a reconstrução
+        when(taskRepository.streamAllTasks()).thenAnswer(invocation -> {
+            Stream<TaskResponse> snapshot = Stream.of(
+                    new TaskResponse(deletedId, "Relatório antigo", null, TaskStatus.TODO, projectId, null, null, Instant.now()),
+                    new TaskResponse(updatedId, "Texto antigo", null, TaskStatus.TODO, projectId, null, null, Instant.now()));
+            searchIndex.removeTask(projectId, deletedId);
+            searchIndex.indexTask(projectId, updatedId, "Texto novo", null);
+            return snapshot;
+        });
+        when(commentRepository.streamAllComments()).thenReturn(Stream.empty());
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+
+        assertEquals(1, taskSearchService.rebuildIndex());
+
+        assertEquals(0, taskSearchService.searchTasks(projectId, "relatorio", 0, 20, currentUser).total());
+        assertEquals(0, taskSearchService.searchTasks(projectId, "antigo", 0, 20, currentUser).total());
+        assertEquals(updatedId, taskSearchService.searchTasks(projectId, "novo", 0, 20, currentUser).hits().get(0).taskId());
+    }
+
+    @Test
+    void rebuildIndex_ShouldKeepTheCurrentIndexWhenTheRebuildFails() {
+        UUID taskId = UUID.randomUUID();
+        searchIndex.indexTask(projectId, taskId, "Migrar banco", null);
+        when(taskRepository.streamAllTasks()).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThrows(IllegalStateException.class, () -> taskSearchService.rebuildIndex());
+
+        assertEquals(1, searchIndex.size());
+        // Uma nova reconstrução pode começar
+        assertDoesNotThrow(() -> searchIndex.beginRebuild().abort());
+    }
+
+    @Test
+    void searchTasks_ShouldDenyNonMembers() {
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> taskSearchService.searchTasks(projectId, "bug", 0, 20, currentUser));
+    }
+
+    @Test
+    void searchTasks_ShouldRejectBlankQuery() {
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskSearchService.searchTasks(projectId, " ", 0, 20, currentUser));
+    }
+
+    @Test
+    void searchTasks_ShouldRejectPageWhoseOffsetOverflows() {
+        searchIndex.indexTask(projectId, UUID.randomUUID(), "Corrigir bug", null);
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+
+        // 30M * 100 passa de Integer.MAX_VALUE
+        assertThrows(IllegalArgumentException.class,
+                () -> taskSearchService.searchTasks(projectId, "bug", 30_000_000, 100, currentUser));
+    }
+}
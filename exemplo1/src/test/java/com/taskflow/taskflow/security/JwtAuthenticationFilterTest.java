@@ -0,0 +1,147 @@
+package com.taskflow.taskflow.security;
+
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.UserStatus;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT = "header.payload.signature";
+
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    private Usuario user;
+
+    @BeforeEach
+    void setUp() {
+        user = new Usuario();
+        user.setId(UUID.randomUUID());
+        user.setEmail("ana@taskflow.com");
+        user.setRole(UserRole.COLLABORATOR);
+        user.setStatus(UserStatus.ACTIVE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldAuthenticateFromSnapshotInTokenMode() throws Exception {
+        VerifiedToken token = token(user.getId(), user.getEmail());
+        when(jwtService.verify(JWT)).thenReturn(token);
+        when(userSnapshotCache.get(user.getId())).thenReturn(Optional.of(UserSnapshot.fromEntity(user)));
+        when(jwtService.isTokenValid(eq(token), any())).thenReturn(true);
+
+        filter("token").doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals(user.getId(), ((UserPrincipal) authentication.getPrincipal()).getId());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_ShouldFallBackToUserDetailsService_WhenTokenHasNoUserId() throws Exception {
+        VerifiedToken token = token(null, user.getEmail());
+        UserPrincipal principal = new UserPrincipal(user);
+        when(jwtService.verify(JWT)).thenReturn(token);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(principal);
+        when(jwtService.isTokenValid(token, principal)).thenReturn(true);
+
+        filter("token").doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertSame(principal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verifyNoInteractions(userSnapshotCache);
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_WhenSnapshotEmailDoesNotMatchSubject() throws Exception {
+        when(jwtService.verify(JWT)).thenReturn(token(user.getId(), "old@taskflow.com"));
+        when(userSnapshotCache.get(user.getId())).thenReturn(Optional.of(UserSnapshot.fromEntity(user)));
+
+        filter("token").doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_WhenUserIsUnknown() throws Exception {
+        when(jwtService.verify(JWT)).thenReturn(token(user.getId(), user.getEmail()));
+        when(userSnapshotCache.get(user.getId())).thenReturn(Optional.empty());
+
+        MockFilterChain chain = new MockFilterChain();
+        filter("token").doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        // A requisição segue sem autenticação; o Spring Security decide o 401/403
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_WhenUserIsInactive() throws Exception {
+        user.setStatus(UserStatus.INACTIVE);
+        when(jwtService.verify(JWT)).thenReturn(token(user.getId(), user.getEmail()));
+        when(userSnapshotCache.get(user.getId())).thenReturn(Optional.of(UserSnapshot.fromEntity(user)));
+
+        filter("token").doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtService, never()).isTokenValid(any(VerifiedToken.class), any());
+    }
+
+    @Test
+    void doFilter_ShouldLoadUserFromDatabase_WhenPrincipalSourceIsDatabase() throws Exception {
+        VerifiedToken token = token(user.getId(), user.getEmail());
+        UserPrincipal principal = new UserPrincipal(user);
+        when(jwtService.verify(JWT)).thenReturn(token);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(principal);
+        when(jwtService.isTokenValid(token, principal)).thenReturn(true);
+
+        filter("database").doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertSame(principal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verifyNoInteractions(userSnapshotCache);
+    }
+
+    private JwtAuthenticationFilter filter(String principalSource) {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, userSnapshotCache, principalSource);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + JWT);
+        return request;
+    }
+
+    private static VerifiedToken token(UUID userId, String subject) {
+        Instant now = Instant.now();
+        return new VerifiedToken(subject, userId, "COLLABORATOR", now, now.plusSeconds(3600));
+    }
+}
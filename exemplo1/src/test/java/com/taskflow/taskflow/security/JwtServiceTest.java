@@ -0,0 +1,115 @@
+package com.taskflow.taskflow.security;
+
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "aSuperSecretKeyForTaskFlowProjectManagementApiThatIsLongEnoughForHS256Algorithm";
+
+    private MutableClock clock;
+    private Usuario user;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        user = new Usuario();
+        user.setId(UUID.randomUUID());
+        user.setEmail("ana@test.com");
+        user.setRole(UserRole.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token gerado e devolver as claims do usuário")
+    void verify_ShouldRoundTripGeneratedToken() {
+        JwtService jwtService = new JwtService(SECRET, 60L, 100, clock);
+
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(user));
+
+        assertEquals("ana@test.com", token.subject());
+        assertEquals(user.getId(), token.userId());
+        assertEquals("MANAGER", token.role());
+        assertEquals(clock.instant(), token.issuedAt());
+        assertEquals(clock.instant().plusSeconds(60), token.expiresAt());
+    }
+
+    @Test
+    @DisplayName("Deve recusar um token com a assinatura adulterada")
+    void verify_ShouldRejectTamperedSignature() {
+        JwtService jwtService = new JwtService(SECRET, 60L, 100, clock);
+        String token = jwtService.generateToken(user);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token expirado mesmo quando ele já está no cache")
+    void verify_ShouldRejectExpiredTokenOnCacheHit() {
+        JwtService jwtService = new JwtService(SECRET, 60L, 100, clock);
+        String token = jwtService.generateToken(user);
+        VerifiedToken verified = jwtService.verify(token);
+        assertSame(verified, jwtService.verify(token));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Deve verificar a assinatura a cada chamada quando o cache está desabilitado")
+    void verify_ShouldBypassCacheWhenDisabled() {
+        JwtService jwtService = new JwtService(SECRET, 60L, 0, clock);
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
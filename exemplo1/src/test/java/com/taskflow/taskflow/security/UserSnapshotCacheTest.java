@@ -0,0 +1,68 @@
+package com.taskflow.taskflow.security;
+
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.UserStatus;
+import com.taskflow.taskflow.user.model.Usuario;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSnapshotCacheTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private UserSnapshotCache userSnapshotCache;
+    private Usuario user;
+
+    @BeforeEach
+    void setUp() {
+        userSnapshotCache = new UserSnapshotCache(usuarioRepository, 100, Duration.ofMinutes(5));
+        user = new Usuario();
+        user.setId(UUID.randomUUID());
+        user.setEmail("ana@taskflow.com");
+        user.setRole(UserRole.COLLABORATOR);
+        user.setStatus(UserStatus.ACTIVE);
+    }
+
+    @Test
+    void get_ShouldLoadUserOnlyOnce() {
+        when(usuarioRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        userSnapshotCache.get(user.getId());
+        Optional<UserSnapshot> snapshot = userSnapshotCache.get(user.getId());
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(UserRole.COLLABORATOR, snapshot.get().role());
+        verify(usuarioRepository, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void invalidate_ShouldExposeRoleAndStatusChangesImmediately() {
+        when(usuarioRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        userSnapshotCache.get(user.getId());
+
+        Usuario updated = new Usuario();
+        updated.setId(user.getId());
+        updated.setEmail(user.getEmail());
+        updated.setRole(UserRole.MANAGER);
+        updated.setStatus(UserStatus.INACTIVE);
+        when(usuarioRepository.findById(user.getId())).thenReturn(Optional.of(updated));
+        userSnapshotCache.invalidate(user.getId());
+
+        UserPrincipal principal = new UserPrincipal(userSnapshotCache.get(user.getId()).orElseThrow().toUser());
+        assertEquals("ROLE_MANAGER", principal.getAuthorities().iterator().next().getAuthority());
+        assertFalse(principal.isEnabled());
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.taskflow.support;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Falha o teste quando a chamada executa mais statements SQL que o orçamento. A mensagem
+ * lista os statements para que o N+1 apareça no relatório do build.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T assertStatementsAtMost(int budget, ThrowingSupplier<T> call) {
+        SqlStatementRecorder.start();
+        T result;
+        List<String> statements;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            SqlStatementRecorder.stop();
+            throw new AssertionError("Call under query budget failed", e);
+        }
+        statements = SqlStatementRecorder.stop();
+
+        if (statements.size() > budget) {
+            StringBuilder message = new StringBuilder()
+                    .append("Query budget exceeded: ").append(statements.size())
+                    .append(" statements, budget ").append(budget).append('\n');
+            for (int i = 0; i < statements.size(); i++) {
+                message.append("  ").append(i + 1).append(": ").append(statements.get(i)).append('\n');
+            }
+            fail(message.toString());
+        }
+        return result;
+    }
+}
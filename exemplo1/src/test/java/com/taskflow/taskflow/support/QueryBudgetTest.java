@@ -0,0 +1,22 @@
+package com.taskflow.taskflow.support;
+
+import com.taskflow.taskflow.TaskflowApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Teste de integração contra H2 com contagem de statements; use com {@link QueryBudget}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(classes = TaskflowApplication.class)
+@ActiveProfiles("test")
+@Import(QueryBudgetTestConfig.class)
+public @interface QueryBudgetTest {
+}
@@ -0,0 +1,44 @@
+package com.taskflow.taskflow.support;
+
+import com.taskflow.taskflow.comment.repository.CommentRepository;
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryBudgetTestConfig {
+
+    // Envolve o DataSource do contexto para que todo SQL (JPA e JdbcTemplate) passe pelo gravador
+    @Bean
+    public static BeanPostProcessor queryRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementRecorder())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public TestData testData(UsuarioRepository usuarioRepository, ProjectRepository projectRepository,
+                             ProjectMemberRepository projectMemberRepository, TaskRepository taskRepository,
+                             CommentRepository commentRepository, PlatformTransactionManager transactionManager) {
+        return new TestData(usuarioRepository, projectRepository, projectMemberRepository, taskRepository,
+                commentRepository, new TransactionTemplate(transactionManager));
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.taskflow.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registra, por thread, os statements executados pelo DataSource com proxy. Um
+ * {@code executeBatch} conta como um statement (uma ida ao banco).
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = RECORDED.get();
+        RECORDED.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = RECORDED.get();
+        if (statements == null) {
+            return;
+        }
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        statements.add(execInfo.isBatch() ? "[batch x" + execInfo.getBatchSize() + "] " + sql : sql);
+    }
+}
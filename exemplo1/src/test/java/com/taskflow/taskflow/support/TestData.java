@@ -0,0 +1,83 @@
+package com.taskflow.taskflow.support;
+
+import com.taskflow.taskflow.comment.model.Comment;
+import com.taskflow.taskflow.comment.repository.CommentRepository;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.project.model.ProjectMember;
+import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** Monta dados persistidos para os testes de integração. */
+@RequiredArgsConstructor
+public class TestData {
+
+    private final UsuarioRepository usuarioRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public Usuario user(UserRole role) {
+        Usuario user = new Usuario();
+        user.setName("User");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("hash");
+        user.setRole(role);
+        return usuarioRepository.save(user);
+    }
+
+    // Projeto com o dono já como membro, como faz o ProjectService
+    public Project project(Usuario owner) {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Description");
+        project.setOwner(owner);
+        return transactionTemplate.execute(status -> {
+            Project saved = projectRepository.save(project);
+            projectMemberRepository.save(new ProjectMember(saved, usuarioRepository.getReferenceById(owner.getId())));
+            return saved;
+        });
+    }
+
+    public void member(Project project, Usuario user) {
+        transactionTemplate.executeWithoutResult(status -> projectMemberRepository.save(new ProjectMember(
+                projectRepository.getReferenceById(project.getId()), usuarioRepository.getReferenceById(user.getId()))));
+    }
+
+    public List<Task> tasks(Project project, Usuario assignee, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setProject(project);
+            task.setAssignee(assignee);
+            task.setDueDate(Instant.now().plusSeconds(3600L * i));
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
+    public List<Comment> comments(Task task, Usuario author, int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            comments.add(new Comment(null, "Comment " + i, task, author, null));
+        }
+        return commentRepository.saveAll(comments);
+    }
+}
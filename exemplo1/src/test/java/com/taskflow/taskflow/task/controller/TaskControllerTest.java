@@ -0,0 +1,64 @@
+package com.taskflow.taskflow.task.controller;
+
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@QueryBudgetTest
+@AutoConfigureMockMvc
+class TaskControllerTest {
+
+    private static final String REVALIDATE = "no-cache, private";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void getTasksByProject_ShouldLetBrowsersStoreTheListAndRevalidate() throws Exception {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        testData.tasks(project, owner, 3);
+        UserPrincipal principal = new UserPrincipal(owner);
+        String url = "/api/tasks/projects/" + project.getId() + "/tasks";
+
+        String eTag = mockMvc.perform(get(url).with(user(principal)))
+                .andExpect(status().isOk())
+                // O Cache-Control explícito substitui o no-store padrão do Spring Security
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get(url).with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+    }
+
+    @Test
+    void getTasksPageByProject_ShouldLetBrowsersStoreThePageAndRevalidate() throws Exception {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        testData.tasks(project, owner, 3);
+
+        mockMvc.perform(get("/api/tasks/projects/" + project.getId() + "/tasks/page").with(user(new UserPrincipal(owner))))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+    }
+}
@@ -0,0 +1,264 @@
+package com.taskflow.taskflow.task.service;
+
+import com.taskflow.taskflow.dashboard.service.TaskCounterService;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.BulkTaskResponse;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateOutcome;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateRequest;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateResponse;
+import com.taskflow.taskflow.task.dto.TaskProjectRef;
+import com.taskflow.taskflow.task.dto.TaskRequest;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.Usuario;
+import com.taskflow.taskflow.user.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBulkServiceTest {
+
+    private static final jakarta.validation.ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private UsuarioRepository usuarioRepository;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBulkService taskBulkService;
+    private UUID projectId;
+    private UUID userId;
+    private UserPrincipal currentUser;
+    private Project project;
+    private Usuario assignee;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = VALIDATOR_FACTORY.getValidator();
+        taskBulkService = new TaskBulkService(projectRepository, taskRepository, usuarioRepository, projectMembershipCache,
+                taskCounterService, entityManager, validator, eventPublisher, 2, 100);
+
+        projectId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        Usuario user = new Usuario();
+        user.setId(userId);
+        currentUser = new UserPrincipal(user);
+
+        project = new Project();
+        project.setId(projectId);
+        assignee = new Usuario();
+        assignee.setId(UUID.randomUUID());
+    }
+
+    @AfterAll
+    static void closeValidatorFactory() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @Test
+    @DisplayName("Deve inserir os itens válidos em lote e reportar erros por item")
+    void createTasks_ShouldInsertValidItemsAndReportErrors() {
+        // Arrange
+        UUID unknownAssignee = UUID.randomUUID();
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("Task 1", null, assignee.getId(), null),
+                new TaskRequest(" ", null, assignee.getId(), null),
+                new TaskRequest("Task 3", null, unknownAssignee, null),
+                new TaskRequest("Task 4", null, assignee.getId(), null),
+                new TaskRequest("Task 5", null, assignee.getId(), null));
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(usuarioRepository.findAllById(Set.of(assignee.getId(), unknownAssignee))).thenReturn(List.of(assignee));
+
+        // Act
+        BulkTaskResponse response = taskBulkService.createTasks(projectId, requests, currentUser);
+
+        // Assert
+        assertEquals(3, response.created());
+        assertEquals(2, response.failed());
+        assertNotNull(response.results().get(0).task());
+        assertTrue(response.results().get(1).error().startsWith("title"));
+        assertEquals("Assignee not found", response.results().get(2).error());
+        assertEquals(TaskStatus.TODO, response.results().get(4).task().status());
+
+        verify(usuarioRepository, times(1)).findAllById(any());
+        verify(entityManager, times(3)).persist(any(Task.class));
+        // Um flush por lote completo (2 itens) e um para o restante
+        verify(entityManager, times(2)).flush();
+        verify(taskCounterService, times(1)).tasksAdded(assignee.getId(), TaskStatus.TODO, 3L);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote inteiro quando o usuário não é membro do projeto")
+    void createTasks_ShouldThrowAccessDenied_WhenUserIsNotMember() {
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> taskBulkService.createTasks(projectId,
+                List.of(new TaskRequest("Task", null, assignee.getId(), null)), currentUser));
+
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("Deve mudar o status em lotes e reportar o resultado de cada id")
+    void updateTasks_ShouldUpdateStatusInChunksAndReportOutcomes() {
+        // Arrange
+        UUID otherProjectId = UUID.randomUUID();
+        TaskResponse todo1 = taskRow(projectId, assignee.getId(), TaskStatus.TODO);
+        TaskResponse todo2 = taskRow(projectId, assignee.getId(), TaskStatus.TODO);
+        TaskResponse inProgress = taskRow(projectId, assignee.getId(), TaskStatus.IN_PROGRESS);
+        TaskResponse done = taskRow(projectId, assignee.getId(), TaskStatus.DONE);
+        TaskResponse foreign = taskRow(otherProjectId, assignee.getId(), TaskStatus.TODO);
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(todo1.id(), todo2.id(), inProgress.id(), done.id(), foreign.id(), missing);
+        stubTasks(todo1, todo2, inProgress, done, foreign);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(otherProjectId, userId)).thenReturn(false);
+
+        // Act
+        BulkTaskUpdateResponse response = taskBulkService.updateTasks(
+                new BulkTaskUpdateRequest(ids, TaskStatus.DONE, null), currentUser);
+
+        // Assert
+        assertEquals(3, response.updated());
+        assertEquals(1, response.unchanged());
+        assertEquals(2, response.failed());
+        assertEquals(List.of(BulkTaskUpdateOutcome.UPDATED, BulkTaskUpdateOutcome.UPDATED, BulkTaskUpdateOutcome.UPDATED,
+                        BulkTaskUpdateOutcome.UNCHANGED, BulkTaskUpdateOutcome.ACCESS_DENIED, BulkTaskUpdateOutcome.NOT_FOUND),
+                response.results().stream().map(r -> r.outcome()).toList());
+
+        // Membro verificado uma vez por projeto distinto, antes de travar
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
+        // Só as tarefas autorizadas são travadas, em ordem de id e em lotes
+        List<UUID> sortedAuthorized = Stream.of(todo1, todo2, inProgress, done).map(TaskResponse::id).sorted().toList();
+        InOrder lockOrder = inOrder(taskRepository);
+        lockOrder.verify(taskRepository).lockAllForUpdate(sortedAuthorized.subList(0, 2));
+        lockOrder.verify(taskRepository).lockAllForUpdate(sortedAuthorized.subList(2, 4));
+        verify(taskRepository, times(2)).lockAllForUpdate(any());
+        verify(taskRepository).updateStatusByIds(List.of(todo1.id(), todo2.id()), TaskStatus.DONE);
+        verify(taskRepository).updateStatusByIds(List.of(inProgress.id()), TaskStatus.DONE);
+        // Um delta por grupo (responsável, status anterior)
+        verify(taskCounterService).tasksMoved(assignee.getId(), TaskStatus.TODO, TaskStatus.DONE, 2L);
+        verify(taskCounterService).tasksMoved(assignee.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, 1L);
+        verify(eventPublisher).publishEvent(TaskEvent.of(TaskEventType.STATUS_CHANGED, new TaskResponse(todo1.id(),
+                todo1.title(), null, TaskStatus.DONE, projectId, assignee.getId(), null, todo1.createdAt())));
+        verify(eventPublisher, times(3)).publishEvent(any(TaskEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve reatribuir as tarefas e mover os contadores entre responsáveis")
+    void updateTasks_ShouldReassignAndMoveCounters() {
+        // Arrange
+        Usuario newAssignee = new Usuario();
+        newAssignee.setId(UUID.randomUUID());
+        TaskResponse first = taskRow(projectId, assignee.getId(), TaskStatus.TODO);
+        TaskResponse second = taskRow(projectId, assignee.getId(), TaskStatus.TODO);
+        TaskResponse alreadyAssigned = taskRow(projectId, newAssignee.getId(), TaskStatus.TODO);
+        List<UUID> ids = List.of(first.id(), second.id(), alreadyAssigned.id());
+        when(usuarioRepository.findById(newAssignee.getId())).thenReturn(Optional.of(newAssignee));
+        stubTasks(first, second, alreadyAssigned);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+
+        // Act
+        BulkTaskUpdateResponse response = taskBulkService.updateTasks(
+                new BulkTaskUpdateRequest(ids, null, newAssignee.getId()), currentUser);
+
+        // Assert
+        assertEquals(2, response.updated());
+        assertEquals(1, response.unchanged());
+        verify(taskRepository).updateAssigneeByIds(List.of(first.id(), second.id()), newAssignee);
+        verify(taskCounterService).tasksReassigned(assignee.getId(), newAssignee.getId(), TaskStatus.TODO, 2L);
+        verify(eventPublisher, times(2)).publishEvent(any(TaskEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve exigir exatamente um entre status e responsável")
+    void updateTasks_ShouldRejectAmbiguousRequest() {
+        List<UUID> ids = List.of(UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.updateTasks(
+                new BulkTaskUpdateRequest(ids, TaskStatus.DONE, assignee.getId()), currentUser));
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.updateTasks(
+                new BulkTaskUpdateRequest(ids, null, null), currentUser));
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve travar tarefas de projetos em que o usuário não é membro")
+    void updateTasks_ShouldNotLockTasksOfForeignProjects() {
+        UUID otherProjectId = UUID.randomUUID();
+        TaskResponse foreign = taskRow(otherProjectId, assignee.getId(), TaskStatus.TODO);
+        stubTasks(foreign);
+        when(projectMembershipCache.isMember(otherProjectId, userId)).thenReturn(false);
+
+        BulkTaskUpdateResponse response = taskBulkService.updateTasks(
+                new BulkTaskUpdateRequest(List.of(foreign.id()), TaskStatus.DONE, null), currentUser);
+
+        assertEquals(BulkTaskUpdateOutcome.ACCESS_DENIED, response.results().get(0).outcome());
+        verify(taskRepository, never()).lockAllForUpdate(any());
+        verify(taskRepository, never()).updateStatusByIds(any(), any());
+    }
+
+    // Projeção sem trava e SELECT ... FOR UPDATE devolvem as linhas existentes entre os ids pedidos
+    private void stubTasks(TaskResponse... tasks) {
+        Map<UUID, TaskResponse> rows = Stream.of(tasks).collect(Collectors.toMap(TaskResponse::id, Function.identity()));
+        lenient().when(taskRepository.findProjectRefsByIds(any())).thenAnswer(invocation -> {
+            Collection<UUID> taskIds = invocation.getArgument(0);
+            return taskIds.stream().filter(rows::containsKey)
+                    .map(taskId -> new TaskProjectRef(taskId, rows.get(taskId).projectId())).toList();
+        });
+        lenient().when(taskRepository.lockAllForUpdate(any())).thenAnswer(invocation -> {
+            Collection<UUID> taskIds = invocation.getArgument(0);
+            return taskIds.stream().filter(rows::containsKey).map(rows::get).toList();
+        });
+    }
+
+    private TaskResponse taskRow(UUID taskProjectId, UUID assigneeId, TaskStatus status) {
+        return new TaskResponse(UUID.randomUUID(), "Task", null, status, taskProjectId, assigneeId, null, Instant.now());
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskflow.taskflow.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskExportFormat;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskExportService taskExportService;
+    private UUID projectId;
+    private UserPrincipal currentUser;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportService = new TaskExportService(taskRepository, projectMembershipCache, objectMapper, transactionManager);
+
+        projectId = UUID.randomUUID();
+        Usuario user = new Usuario();
+        user.setId(UUID.randomUUID());
+        currentUser = new UserPrincipal(user);
+    }
+
+    @Test
+    @DisplayName("Deve exportar uma tarefa por linha em NDJSON e fechar o stream")
+    void exportTasks_Ndjson() throws Exception {
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamTasksForExport(projectId, TaskStatus.TODO, null))
+                .thenReturn(Stream.of(task("First", null), task("Second", null)).onClose(() -> closed.set(true)));
+
+        String output = write(taskExportService.exportTasks(projectId, "todo", null, TaskExportFormat.NDJSON, currentUser));
+
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+        assertTrue(output.endsWith("\n"));
+        assertTrue(closed.get());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV com cabeçalho e campos escapados")
+    void exportTasks_Csv() throws Exception {
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(true);
+        TaskResponse task = task("Fix \"login\", again", "line1\nline2");
+        when(taskRepository.streamTasksForExport(projectId, null, null)).thenReturn(Stream.of(task));
+
+        String output = write(taskExportService.exportTasks(projectId, null, null, TaskExportFormat.CSV, currentUser));
+
+        String[] lines = output.split("\r\n");
+        assertEquals("id,title,description,status,projectId,assigneeId,dueDate,createdAt", lines[0]);
+        assertTrue(lines[1].startsWith(task.id() + ",\"Fix \"\"login\"\", again\",\"line1\nline2\",TODO," + projectId + ",,"));
+    }
+
+    @Test
+    @DisplayName("Deve negar a exportação antes de abrir o stream quando o usuário não é membro")
+    void exportTasks_NotMember() {
+        when(projectMembershipCache.isMember(projectId, currentUser.getId())).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> taskExportService.exportTasks(projectId, null, null, TaskExportFormat.NDJSON, currentUser));
+        verifyNoInteractions(taskRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de exportação desconhecido")
+    void exportFormat_Invalid() {
+        assertEquals(TaskExportFormat.CSV, TaskExportFormat.from("csv"));
+        assertEquals(TaskExportFormat.NDJSON, TaskExportFormat.from(null));
+        assertThrows(IllegalArgumentException.class, () -> TaskExportFormat.from("xml"));
+    }
+
+    private TaskResponse task(String title, String description) {
+        return new TaskResponse(UUID.randomUUID(), title, description, TaskStatus.TODO, projectId, null,
+                null, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
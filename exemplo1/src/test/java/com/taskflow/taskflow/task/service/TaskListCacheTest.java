@@ -0,0 +1,106 @@
+package com.taskflow.taskflow.task.service;
+
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskListCacheTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskListCache taskListCache;
+    private UUID projectId;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        taskListCache = new TaskListCache(taskRepository, DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        projectId = UUID.randomUUID();
+        Project project = new Project();
+        project.setId(projectId);
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setProject(project);
+        task.setCreatedAt(Instant.now());
+    }
+
+    @Test
+    void get_ShouldQueryOncePerProjectVersion() {
+        when(taskRepository.findTasksByProjectIdAndFilters(projectId, TaskStatus.TODO, null)).thenReturn(List.of(task));
+
+        List<TaskResponse> first = taskListCache.get(projectId, TaskStatus.TODO, null, 1);
+        List<TaskResponse> second = taskListCache.get(projectId, TaskStatus.TODO, null, 1);
+        taskListCache.get(projectId, TaskStatus.TODO, null, 2);
+
+        assertEquals(List.of(TaskResponse.fromEntity(task)), first);
+        assertSame(first, second);
+        verify(taskRepository, times(2)).findTasksByProjectIdAndFilters(projectId, TaskStatus.TODO, null);
+        assertEquals(1, taskListCache.stats().hitCount());
+    }
+
+    @Test
+    void get_ShouldRunOneQueryForConcurrentMisses() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.findTasksByProjectIdAndFilters(projectId, null, null)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(task);
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<TaskResponse>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> taskListCache.get(projectId, null, null, 3)));
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> taskListCache.get(projectId, null, null, 3)));
+            }
+            release.countDown();
+
+            for (Future<List<TaskResponse>> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+            }
+        }
+        verify(taskRepository, times(1)).findTasksByProjectIdAndFilters(projectId, null, null);
+    }
+
+    @Test
+    void weigh_ShouldGrowWithRowsAndText() {
+        TaskResponse small = TaskResponse.fromEntity(task);
+        TaskResponse large = new TaskResponse(UUID.randomUUID(), "Task", "x".repeat(10_000), TaskStatus.TODO,
+                projectId, null, null, Instant.now());
+
+        int empty = TaskListCache.weigh(null, List.of());
+        int oneSmall = TaskListCache.weigh(null, List.of(small));
+        int oneLarge = TaskListCache.weigh(null, List.of(large));
+
+        assertTrue(empty < oneSmall);
+        assertTrue(oneLarge > oneSmall + 10_000 - 1);
+    }
+}
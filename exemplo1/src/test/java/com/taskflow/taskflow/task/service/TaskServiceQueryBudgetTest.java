@@ -0,0 +1,194 @@
+package com.taskflow.taskflow.task.service;
+
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateRequest;
+import com.taskflow.taskflow.task.dto.BulkTaskUpdateResponse;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.model.Task;
+import com.taskflow.taskflow.task.model.TaskStatus;
+import com.taskflow.taskflow.task.repository.TaskRepository;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.support.QueryBudget.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryBudgetTest
+class TaskServiceQueryBudgetTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 300})
+    void getTasksByProject_ShouldUseThreeStatementsRegardlessOfSize(int taskCount) {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        testData.tasks(project, owner, taskCount);
+
+        // Membro (cache frio) + versão do projeto + lista
+        List<TaskResponse> tasks = assertStatementsAtMost(3,
+                () -> taskService.getTasksByProject(project.getId(), null, null, new UserPrincipal(owner)));
+
+        assertEquals(taskCount, tasks.size());
+    }
+
+    @Test
+    void getTasksByProject_ShouldServeRepeatLoadsFromCacheUntilTheProjectChanges() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        List<Task> created = testData.tasks(project, owner, 30);
+        UserPrincipal principal = new UserPrincipal(owner);
+        taskService.getTasksByProject(project.getId(), "done", null, principal);
+
+        // Só a leitura da versão
+        List<TaskResponse> cached = assertStatementsAtMost(1,
+                () -> taskService.getTasksByProject(project.getId(), "done", null, principal));
+        assertEquals(10, cached.size());
+
+        taskService.updateTaskStatus(created.get(0).getId(), TaskStatus.DONE, principal);
+
+        assertEquals(11, taskService.getTasksByProject(project.getId(), "done", null, principal).size());
+    }
+
+    @Test
+    void getTasksETag_ShouldOnlyReadTheProjectVersion() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        testData.tasks(project, owner, 50);
+        UserPrincipal principal = new UserPrincipal(owner);
+        String before = taskService.getTasksETag(project.getId(), principal, "list");
+
+        // Membro já no cache: só o SELECT da versão
+        String unchanged = assertStatementsAtMost(1, () -> taskService.getTasksETag(project.getId(), principal, "list"));
+        assertEquals(before, unchanged);
+
+        taskService.updateTaskStatus(testData.tasks(project, owner, 1).get(0).getId(), TaskStatus.DONE, principal);
+        assertNotEquals(before, taskService.getTasksETag(project.getId(), principal, "list"));
+    }
+
+    @Test
+    void transitionTaskStatus_ShouldLetOnlyOneOfTwoIdenticalMovesWin() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        Task task = testData.tasks(project, owner, 1).get(0);
+        UserPrincipal principal = new UserPrincipal(owner);
+
+        TaskResponse moved = taskService.transitionTaskStatus(task.getId(), TaskStatus.TODO, TaskStatus.IN_PROGRESS, principal);
+
+        assertEquals(TaskStatus.IN_PROGRESS, moved.status());
+        assertThrows(IllegalStateException.class,
+                () -> taskService.transitionTaskStatus(task.getId(), TaskStatus.TODO, TaskStatus.IN_PROGRESS, principal));
+        assertEquals(task.getVersion() + 1, taskRepository.findById(task.getId()).orElseThrow().getVersion());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 300})
+    void getTasksPageByProject_ShouldUseTwoStatementsRegardlessOfSize(int taskCount) {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        testData.tasks(project, owner, taskCount);
+
+        CursorPage<TaskResponse> page = assertStatementsAtMost(2,
+                () -> taskService.getTasksPageByProject(project.getId(), "todo", owner.getId(), null, 100, new UserPrincipal(owner)));
+
+        assertFalse(page.items().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 300})
+    void updateTasks_ShouldUseSetBasedStatementsRegardlessOfSize(int taskCount) {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        List<UUID> ids = testData.tasks(project, owner, taskCount).stream().map(Task::getId).toList();
+
+        // Projetos (sem trava) + membro + lock + UPDATE + um upsert de contador por status de origem
+        // + outbox em batch + versão
+        BulkTaskUpdateResponse response = assertStatementsAtMost(8,
+                () -> taskBulkService.updateTasks(new BulkTaskUpdateRequest(ids, TaskStatus.DONE, null), new UserPrincipal(owner)));
+
+        assertEquals(taskCount - taskCount / 3, response.updated());
+    }
+
+    @Test
+    void getMyTasks_ShouldUseOneStatementPerPageAcrossProjects() {
+        Usuario user = testData.user(UserRole.COLLABORATOR);
+        Usuario otherOwner = testData.user(UserRole.MANAGER);
+        Project first = testData.project(user);
+        Project second = testData.project(otherOwner);
+        testData.member(second, user);
+        Project notMember = testData.project(otherOwner);
+        testData.tasks(first, user, 30);
+        testData.tasks(second, user, 30);
+        testData.tasks(notMember, user, 5);
+        UserPrincipal principal = new UserPrincipal(user);
+
+        List<TaskResponse> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            String pageCursor = cursor;
+            CursorPage<TaskResponse> page = assertStatementsAtMost(1,
+                    () -> taskService.getMyTasks("todo", null, null, "dueDate", pageCursor, 7, principal));
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // 10 tarefas TODO por projeto em que é membro, em ordem de prazo
+        assertEquals(20, seen.size());
+        assertTrue(seen.stream().noneMatch(task -> task.projectId().equals(notMember.getId())));
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).dueDate().isBefore(seen.get(i - 1).dueDate()));
+        }
+    }
+
+    @Test
+    void getMyTasks_ShouldListUndatedTasksLastWhenSortingByDueDate() {
+        Usuario user = testData.user(UserRole.COLLABORATOR);
+        Project project = testData.project(user);
+        List<Task> tasks = testData.tasks(project, user, 12);
+        List<Task> undated = tasks.subList(0, 5);
+        undated.forEach(task -> task.setDueDate(null));
+        taskRepository.saveAll(undated);
+        UserPrincipal principal = new UserPrincipal(user);
+
+        List<TaskResponse> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            String pageCursor = cursor;
+            CursorPage<TaskResponse> page = assertStatementsAtMost(1,
+                    () -> taskService.getMyTasks(null, null, null, "dueDate", pageCursor, 4, principal));
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // O mesmo conjunto da ordenação por criação, com as sem prazo no fim
+        assertEquals(tasks.stream().map(Task::getId).sorted().toList(),
+                seen.stream().map(TaskResponse::id).sorted().toList());
+        assertTrue(seen.subList(0, 7).stream().allMatch(task -> task.dueDate() != null));
+        assertTrue(seen.subList(7, 12).stream().allMatch(task -> task.dueDate() == null));
+        for (int i = 1; i < 7; i++) {
+            assertFalse(seen.get(i).dueDate().isBefore(seen.get(i - 1).dueDate()));
+        }
+    }
+}
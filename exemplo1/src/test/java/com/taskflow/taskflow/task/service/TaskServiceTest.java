@@ -1,11 +1,18 @@
 package com.taskflow.taskflow.task.service;
 
+import com.taskflow.taskflow.core.pagination.CursorPage;
+import com.taskflow.taskflow.core.pagination.KeysetCursor;
+import com.taskflow.taskflow.dashboard.service.TaskCounterService;
 import com.taskflow.taskflow.project.model.Project;
-import com.taskflow.taskflow.project.repository.ProjectMemberRepository;
+import com.taskflow.taskflow.project.service.ProjectMembershipCache;
+import com.taskflow.taskflow.project.service.ProjectVersionService;
 import com.taskflow.taskflow.project.repository.ProjectRepository;
 import com.taskflow.taskflow.security.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskAccess;
 import com.taskflow.taskflow.task.dto.TaskRequest;
 import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.event.TaskEvent;
+import com.taskflow.taskflow.task.event.TaskEventType;
 import com.taskflow.taskflow.task.model.Task;
 import com.taskflow.taskflow.task.model.TaskStatus;
 import com.taskflow.taskflow.task.repository.TaskRepository;
@@ -20,9 +27,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,7 +50,15 @@ class TaskServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
     @Mock
-    private ProjectMemberRepository projectMemberRepository;
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private ProjectVersionService projectVersionService;
+    @Mock
+    private TaskListCache taskListCache;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TaskService taskService;
@@ -76,7 +94,7 @@ class TaskServiceTest {
     @DisplayName("Deve criar uma tarefa com sucesso quando o usuário é membro do projeto")
     void createTask_ShouldCreateTaskSuccessfully_WhenUserIsProjectMember() {
         // Arrange
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(usuarioRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
 
@@ -101,24 +119,26 @@ class TaskServiceTest {
         assertEquals(projectId, response.projectId());
         assertEquals(assigneeId, response.assigneeId());
 
-        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
         verify(projectRepository, times(1)).findById(projectId);
         verify(usuarioRepository, times(1)).findById(assigneeId);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskCounterService, times(1)).taskAdded(assigneeId, TaskStatus.TODO);
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEventType.CREATED, response));
     }
 
     @Test
     @DisplayName("Deve lançar AccessDeniedException quando o usuário não é membro do projeto")
     void createTask_ShouldThrowAccessDeniedException_WhenUserIsNotProjectMember() {
         // Arrange
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(false);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(AccessDeniedException.class, () -> {
             taskService.createTask(projectId, taskRequest, currentUser);
         });
 
-        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
         verify(projectRepository, never()).findById(any(UUID.class));
         verify(usuarioRepository, never()).findById(any(UUID.class));
         verify(taskRepository, never()).save(any(Task.class));
@@ -128,7 +148,7 @@ class TaskServiceTest {
     @DisplayName("Deve lançar RuntimeException quando o projeto não é encontrado")
     void createTask_ShouldThrowRuntimeException_WhenProjectNotFound() {
         // Arrange
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
         when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -136,7 +156,7 @@ class TaskServiceTest {
             taskService.createTask(projectId, taskRequest, currentUser);
         }, "Project not found");
 
-        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
         verify(projectRepository, times(1)).findById(projectId);
         verify(usuarioRepository, never()).findById(any(UUID.class));
         verify(taskRepository, never()).save(any(Task.class));
@@ -146,7 +166,7 @@ class TaskServiceTest {
     @DisplayName("Deve lançar RuntimeException quando o responsável (assignee) não é encontrado")
     void createTask_ShouldThrowRuntimeException_WhenAssigneeNotFound() {
         // Arrange
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(usuarioRepository.findById(assigneeId)).thenReturn(Optional.empty());
 
@@ -155,7 +175,7 @@ class TaskServiceTest {
             taskService.createTask(projectId, taskRequest, currentUser);
         }, "Assignee not found");
 
-        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
         verify(projectRepository, times(1)).findById(projectId);
         verify(usuarioRepository, times(1)).findById(assigneeId);
         verify(taskRepository, never()).save(any(Task.class));
@@ -172,23 +192,94 @@ class TaskServiceTest {
         Task existingTask = new Task();
         existingTask.setId(taskId);
         existingTask.setProject(project);
+        existingTask.setAssignee(assignee);
+        existingTask.setStatus(TaskStatus.IN_PROGRESS);
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(taskId);
+        when(taskRepository.findWithAccessById(taskId, userId)).thenReturn(Optional.of(new TaskAccess(existingTask, true)));
 
         // Act
         assertDoesNotThrow(() -> taskService.deleteTask(taskId, currentUser));
 
         // Assert
-        verify(taskRepository, times(1)).deleteById(taskId);
+        verify(taskRepository, times(1)).delete(existingTask);
+        verify(taskCounterService, times(1)).taskRemoved(assigneeId, TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Deve mover o contador do responsável ao mudar o status da tarefa")
+    void updateTaskStatus_ShouldMoveAssigneeCounter() {
+        // Arrange
+        Task existingTask = newTask(Instant.now());
+        when(taskRepository.findWithAccessById(existingTask.getId(), userId))
+                .thenReturn(Optional.of(new TaskAccess(existingTask, true)));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+        // Act
+        TaskResponse response = taskService.updateTaskStatus(existingTask.getId(), TaskStatus.DONE, currentUser);
+
+        // Assert
+        assertEquals(TaskStatus.DONE, response.status());
+        verify(taskCounterService, times(1)).taskMoved(assigneeId, TaskStatus.TODO, TaskStatus.DONE);
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEventType.STATUS_CHANGED, response));
+    }
+
+    @Test
+    @DisplayName("Deve mudar o status com um compare-and-set e mover o contador")
+    void transitionTaskStatus_ShouldMoveAssigneeCounter_WhenStatusMatches() {
+        // Arrange
+        Task existingTask = newTask(Instant.now());
+        existingTask.setStatus(TaskStatus.DONE);
+        when(taskRepository.compareAndSetStatus(existingTask.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, userId)).thenReturn(1);
+        when(taskRepository.findById(existingTask.getId())).thenReturn(Optional.of(existingTask));
+
+        // Act
+        TaskResponse response = taskService.transitionTaskStatus(existingTask.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, currentUser);
+
+        // Assert
+        assertEquals(TaskStatus.DONE, response.status());
+        verify(taskCounterService, times(1)).taskMoved(assigneeId, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEventType.STATUS_CHANGED, response));
+        verify(taskRepository, never()).findWithAccessById(any(), any());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito quando o status atual não é o esperado")
+    void transitionTaskStatus_ShouldConflict_WhenStatusChanged() {
+        // Arrange
+        Task existingTask = newTask(Instant.now());
+        existingTask.setStatus(TaskStatus.DONE);
+        when(taskRepository.compareAndSetStatus(existingTask.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, userId)).thenReturn(0);
+        when(taskRepository.findWithAccessById(existingTask.getId(), userId))
+                .thenReturn(Optional.of(new TaskAccess(existingTask, true)));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> taskService.transitionTaskStatus(existingTask.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, currentUser));
+        verifyNoInteractions(taskCounterService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve lançar AccessDeniedException na transição se o usuário não for membro")
+    void transitionTaskStatus_ShouldThrowAccessDenied_WhenUserIsNotProjectMember() {
+        // Arrange
+        Task existingTask = newTask(Instant.now());
+        when(taskRepository.compareAndSetStatus(existingTask.getId(), TaskStatus.TODO, TaskStatus.DONE, userId)).thenReturn(0);
+        when(taskRepository.findWithAccessById(existingTask.getId(), userId))
+                .thenReturn(Optional.of(new TaskAccess(existingTask, false)));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class,
+                () -> taskService.transitionTaskStatus(existingTask.getId(), TaskStatus.TODO, TaskStatus.DONE, currentUser));
     }
 
     @Test
     @DisplayName("Deve filtrar tarefas por status e responsável")
     void getTasksByProject_ShouldFilterTasks() {
         // Arrange
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(true);
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+
+        when(projectVersionService.currentVersion(projectId)).thenReturn(4L);
 
         Task task1 = new Task();
         task1.setId(UUID.randomUUID());
@@ -197,8 +288,8 @@ class TaskServiceTest {
         task1.setAssignee(assignee);
         task1.setProject(project);
 
-        when(taskRepository.findTasksByProjectIdAndFilters(projectId, TaskStatus.IN_PROGRESS, assigneeId))
-                .thenReturn(java.util.List.of(task1));
+        when(taskListCache.get(projectId, TaskStatus.IN_PROGRESS, assigneeId, 4L))
+                .thenReturn(java.util.List.of(TaskResponse.fromEntity(task1)));
 
         // Act
         java.util.List<TaskResponse> responses = taskService.getTasksByProject(projectId, "IN_PROGRESS", assigneeId, currentUser);
@@ -208,8 +299,27 @@ class TaskServiceTest {
         assertEquals(1, responses.size());
         assertEquals(task1.getId(), responses.get(0).id());
 
-        verify(projectMemberRepository, times(1)).existsByProjectIdAndUserId(projectId, userId);
-        verify(taskRepository, times(1)).findTasksByProjectIdAndFilters(projectId, TaskStatus.IN_PROGRESS, assigneeId);
+        verify(projectMembershipCache, times(1)).isMember(projectId, userId);
+        verify(taskListCache, times(1)).get(projectId, TaskStatus.IN_PROGRESS, assigneeId, 4L);
+    }
+
+    @Test
+    void getTasksETag_ShouldUseProjectVersionWithoutQueryingTasks() {
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        when(projectVersionService.listETag(projectId, "list", "todo", assigneeId)).thenReturn("W/\"3-abc\"");
+
+        String eTag = taskService.getTasksETag(projectId, currentUser, "list", "todo", assigneeId);
+
+        assertEquals("W/\"3-abc\"", eTag);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksETag_ShouldRejectNonMembers() {
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> taskService.getTasksETag(projectId, currentUser, "list"));
+        verifyNoInteractions(projectVersionService);
     }
 
     @Test
@@ -224,14 +334,124 @@ class TaskServiceTest {
         existingTask.setId(taskId);
         existingTask.setProject(project);
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)).thenReturn(false);
+        when(taskRepository.findWithAccessById(taskId, userId)).thenReturn(Optional.of(new TaskAccess(existingTask, false)));
 
         // Act & Assert
         assertThrows(AccessDeniedException.class, () -> {
             taskService.deleteTask(taskId, currentUser);
         });
 
-        verify(taskRepository, never()).deleteById(any(UUID.class));
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a primeira página com cursor quando há mais tarefas")
+    void getTasksPageByProject_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        Task first = newTask(Instant.parse("2025-01-01T10:00:00Z"));
+        Task second = newTask(Instant.parse("2025-01-01T11:00:00Z"));
+        Task extra = newTask(Instant.parse("2025-01-01T12:00:00Z"));
+        when(taskRepository.findFirstTasksPage(projectId, null, null, Limit.of(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        // Act
+        CursorPage<TaskResponse> page = taskService.getTasksPageByProject(projectId, null, null, null, 2, currentUser);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertEquals(first.getId(), page.items().get(0).id());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertEquals(second.getCreatedAt(), next.instant());
+        assertEquals(second.getId(), next.id());
+    }
+
+    @Test
+    @DisplayName("Deve listar as tarefas do usuário por prazo com cursor em (due_date, id)")
+    void getMyTasks_ShouldPageByDueDateAcrossProjects() {
+        // Arrange
+        Instant dueTo = Instant.parse("2025-02-01T00:00:00Z");
+        TaskResponse first = myTaskRow(Instant.parse("2025-01-10T00:00:00Z"));
+        TaskResponse second = myTaskRow(Instant.parse("2025-01-11T00:00:00Z"));
+        TaskResponse extra = myTaskRow(Instant.parse("2025-01-12T00:00:00Z"));
+        when(taskRepository.findMyTasksByDueDate(userId, TaskStatus.TODO, null, dueTo, null, null, Limit.of(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        // Act
+        CursorPage<TaskResponse> page = taskService.getMyTasks("todo", null, dueTo, "dueDate", null, 2, currentUser);
+
+        // Assert
+        assertEquals(List.of(first, second), page.items());
+        assertEquals(new KeysetCursor(second.dueDate(), second.id()).encode(), page.nextCursor());
+        verifyNoInteractions(projectMembershipCache);
+    }
+
+    @Test
+    @DisplayName("Deve seguir o cursor na ordenação padrão por criação")
+    void getMyTasks_ShouldSeekFromCursorByCreatedAt() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-01-01T11:00:00Z"), UUID.randomUUID());
+        TaskResponse last = myTaskRow(null);
+        when(taskRepository.findMyTasksByCreatedAt(userId, null, null, null, cursor.instant(), cursor.id(), Limit.of(51)))
+                .thenReturn(List.of(last));
+
+        // Act
+        CursorPage<TaskResponse> page = taskService.getMyTasks(null, null, null, null, cursor.encode(), 50, currentUser);
+
+        // Assert
+        assertEquals(List.of(last), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação desconhecida")
+    void getMyTasks_ShouldRejectUnknownSort() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getMyTasks(null, null, null, "title", null, 10, currentUser));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor e encerrar quando não há mais tarefas")
+    void getTasksPageByProject_ShouldSeekFromCursor_AndEndWithoutNextCursor() {
+        // Arrange
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-01-01T11:00:00Z"), UUID.randomUUID());
+        Task last = newTask(Instant.parse("2025-01-01T12:00:00Z"));
+        when(taskRepository.findTasksPageAfter(projectId, TaskStatus.TODO, assigneeId, cursor.instant(), cursor.id(), Limit.of(3)))
+                .thenReturn(List.of(last));
+
+        // Act
+        CursorPage<TaskResponse> page = taskService.getTasksPageByProject(projectId, "todo", assigneeId, cursor.encode(), 2, currentUser);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+        verify(taskRepository, never()).findFirstTasksPage(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void getTasksPageByProject_ShouldRejectMalformedCursor() {
+        when(projectMembershipCache.isMember(projectId, userId)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.getTasksPageByProject(projectId, null, null, "not-a-cursor", 10, currentUser));
+    }
+
+    private Task newTask(Instant createdAt) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+
+    private TaskResponse myTaskRow(Instant dueDate) {
+        return new TaskResponse(UUID.randomUUID(), "Task", null, TaskStatus.TODO, UUID.randomUUID(), userId,
+                dueDate, Instant.now());
     }
 }
@@ -0,0 +1,80 @@
+package com.taskflow.taskflow.user.repository;
+
+import com.taskflow.taskflow.dashboard.repository.TaskStatusCounterRepository;
+import com.taskflow.taskflow.project.model.Project;
+import com.taskflow.taskflow.project.repository.ProjectRepository;
+import com.taskflow.taskflow.support.QueryBudgetTest;
+import com.taskflow.taskflow.support.TestData;
+import com.taskflow.taskflow.user.model.UserRole;
+import com.taskflow.taskflow.user.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static com.taskflow.taskflow.support.QueryBudget.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryBudgetTest
+class UsuarioRepositoryQueryBudgetTest {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskStatusCounterRepository counterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void findById_ShouldBeServedFromTheSecondLevelCache() {
+        Usuario owner = testData.user(UserRole.MANAGER);
+        Project project = testData.project(owner);
+        usuarioRepository.findById(owner.getId());
+        projectRepository.findById(project.getId());
+
+        assertStatementsAtMost(0, () -> {
+            assertTrue(usuarioRepository.findById(owner.getId()).isPresent());
+            return projectRepository.findById(project.getId());
+        });
+    }
+
+    @Test
+    void findByEmail_ShouldBeServedFromTheQueryCache() {
+        Usuario user = testData.user(UserRole.COLLABORATOR);
+        usuarioRepository.findByEmail(user.getEmail());
+
+        Optional<Usuario> found = assertStatementsAtMost(0, () -> usuarioRepository.findByEmail(user.getEmail()));
+
+        assertEquals(user.getId(), found.orElseThrow().getId());
+    }
+
+    @Test
+    void findByEmail_ShouldSeeUpdatesCommittedThroughJpa() {
+        Usuario user = testData.user(UserRole.COLLABORATOR);
+        usuarioRepository.findByEmail(user.getEmail());
+
+        user.setName("Renamed");
+        usuarioRepository.save(user);
+
+        assertEquals("Renamed", usuarioRepository.findByEmail(user.getEmail()).orElseThrow().getName());
+    }
+
+    @Test
+    void counterUpserts_ShouldNotEvictCachedEntities() {
+        Usuario user = testData.user(UserRole.COLLABORATOR);
+        usuarioRepository.findById(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> counterRepository.addDeltas(user.getId(), 1, 0, 0));
+
+        assertStatementsAtMost(0, () -> usuarioRepository.findById(user.getId()));
+    }
+}